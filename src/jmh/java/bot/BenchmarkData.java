@@ -0,0 +1,103 @@
+package bot;
+
+import bot.task.Deadline;
+import bot.task.Event;
+import bot.task.Task;
+import bot.task.TaskList;
+import bot.task.Todo;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible data generators shared by the benchmarks.
+ * <p>
+ * Every generator takes a seed, so the same parameters always produce the same data.
+ */
+public class BenchmarkData {
+    /** Seed used by benchmarks that do not need different data sets */
+    public static final long DEFAULT_SEED = 42;
+
+    private static final String[] WORDS = {
+        "read", "book", "return", "homework", "project", "meeting", "buy", "food",
+        "call", "mom", "gym", "laundry", "report", "review", "team", "lunch"
+    };
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    /**
+     * Creates a task name of two to four random words.
+     *
+     * @param random The random source.
+     * @return A task name.
+     */
+    public static String createTaskName(Random random) {
+        int wordCount = 2 + random.nextInt(3);
+        StringBuilder name = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        for (int i = 1; i < wordCount; i++) {
+            name.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return name.toString();
+    }
+
+    /**
+     * Creates a date within two years of the start of 2025, on a whole minute.
+     *
+     * @param random The random source.
+     * @return A date time.
+     */
+    public static LocalDateTime createDate(Random random) {
+        return BASE_DATE.plusMinutes(random.nextInt(2 * 365 * 24 * 60));
+    }
+
+    /**
+     * Creates an even mix of to-do, deadline and event tasks, about a third of them done.
+     *
+     * @param count The number of tasks.
+     * @param seed The random seed.
+     * @return The tasks in a random order.
+     */
+    public static List<Task> createTasks(int count, long seed) {
+        Random random = new Random(seed);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = createTaskName(random);
+            boolean isDone = random.nextInt(3) == 0;
+            switch (random.nextInt(3)) {
+            case 0 -> tasks.add(new Todo(name, isDone));
+            case 1 -> tasks.add(new Deadline(name, createDate(random), isDone));
+            default -> {
+                LocalDateTime startTime = createDate(random);
+                tasks.add(new Event(name, startTime, startTime.plusHours(1 + random.nextInt(48)), isDone));
+            }
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Creates a task list of the given size with {@link #DEFAULT_SEED}.
+     *
+     * @param count The number of tasks.
+     * @return A new task list.
+     */
+    public static TaskList createTaskList(int count) {
+        return new TaskList(createTasks(count, DEFAULT_SEED));
+    }
+
+    /**
+     * Creates the file string of every task, one per line.
+     *
+     * @param tasks The tasks.
+     * @return The task file content in the text format.
+     */
+    public static String toFileContent(List<Task> tasks) {
+        StringBuilder content = new StringBuilder();
+        for (Task task : tasks) {
+            content.append(task.toFileString());
+        }
+        return content.toString();
+    }
+}
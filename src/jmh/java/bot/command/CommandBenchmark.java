@@ -0,0 +1,133 @@
+package bot.command;
+
+import bot.BenchmarkData;
+import bot.service.FileService;
+import bot.service.NoOpFileService;
+import bot.task.TaskList;
+import bot.util.CommandLine;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Command#execute(CommandLine, TaskList, FileService, Appendable)} of the commands that can run
+ * repeatedly on the same task list, without persistence.
+ * <p>
+ * The task list is recreated every iteration. Add commands grow it during an iteration,
+ * which is small compared to the list sizes measured. Commands that change the order or
+ * size of the list are measured by {@link MutatingCommandBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandBenchmark {
+    /** Tokenized once, since a command line can be reused and parsing is measured by ParserBenchmark */
+    private static final CommandLine TODO = CommandLine.of("todo read book");
+
+    private static final CommandLine DEADLINE = CommandLine.of("deadline return book /by 02-05-2025 1300",
+            AddDeadlineCommand.BY_OPTION);
+
+    private static final CommandLine EVENT = CommandLine.of(
+            "event project meeting /from 02-05-2025 1300 /to 02-05-2025 1500",
+            AddEventCommand.FROM_OPTION, AddEventCommand.TO_OPTION);
+
+    private static final CommandLine FIND = CommandLine.of("find book");
+
+    private static final CommandLine LIST = CommandLine.of("list");
+
+    private static final CommandLine SUMMARY = CommandLine.of("summary");
+
+    private static final CommandLine INVALID = CommandLine.of("unknown command");
+
+    private static final CommandLine EXIT = CommandLine.of("bye");
+
+    @Param({"100", "10000", "100000"})
+    private int taskCount;
+
+    private TaskList taskList;
+
+    private final FileService fileService = new NoOpFileService();
+
+    private CommandLine middleIndex;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        taskList = BenchmarkData.createTaskList(taskCount);
+        middleIndex = CommandLine.of("mark " + taskCount / 2);
+    }
+
+    /** Reused by every command, as a server connection does */
+    private final StringBuilder response = new StringBuilder();
+
+    private StringBuilder execute(Command command, CommandLine commandLine) throws IOException {
+        response.setLength(0);
+        command.execute(commandLine, taskList, fileService, response);
+        return response;
+    }
+
+    @Benchmark
+    public StringBuilder addTodo() throws IOException {
+        return execute(AddTodoCommand.INSTANCE, TODO);
+    }
+
+    @Benchmark
+    public StringBuilder addDeadline() throws IOException {
+        return execute(AddDeadlineCommand.INSTANCE, DEADLINE);
+    }
+
+    @Benchmark
+    public StringBuilder addEvent() throws IOException {
+        return execute(AddEventCommand.INSTANCE, EVENT);
+    }
+
+    @Benchmark
+    public StringBuilder mark() throws IOException {
+        return execute(MarkTaskCommand.INSTANCE, middleIndex);
+    }
+
+    @Benchmark
+    public StringBuilder unmark() throws IOException {
+        return execute(UnmarkTaskCommand.INSTANCE, middleIndex);
+    }
+
+    @Benchmark
+    public StringBuilder find() throws IOException {
+        return execute(FindCommand.INSTANCE, FIND);
+    }
+
+    @Benchmark
+    public StringBuilder list() throws IOException {
+        return execute(ListTaskCommand.INSTANCE, LIST);
+    }
+
+    @Benchmark
+    public StringBuilder summary() throws IOException {
+        return execute(SummaryCommand.INSTANCE, SUMMARY);
+    }
+
+    @Benchmark
+    public StringBuilder invalid() throws IOException {
+        return execute(InvalidCommand.INSTANCE, INVALID);
+    }
+
+    @Benchmark
+    public StringBuilder exit() throws IOException {
+        return execute(ExitCommand.INSTANCE, EXIT);
+    }
+}
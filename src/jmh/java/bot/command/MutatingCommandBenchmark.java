@@ -0,0 +1,76 @@
+package bot.command;
+
+import bot.BenchmarkData;
+import bot.service.FileService;
+import bot.service.NoOpFileService;
+import bot.task.TaskList;
+import bot.util.CommandLine;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures single executions of the commands that reorder or shrink the task list,
+ * each on a freshly generated list so every run does the same work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class MutatingCommandBenchmark {
+    private static final CommandLine DELETE_FIRST = CommandLine.of("delete 1");
+
+    private static final CommandLine SORT_BY_NAME = CommandLine.of("sort name");
+
+    private static final CommandLine SORT_BY_DATE = CommandLine.of("sort date");
+
+    @Param({"100", "10000", "100000"})
+    private int taskCount;
+
+    private TaskList taskList;
+
+    private final FileService fileService = new NoOpFileService();
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        taskList = BenchmarkData.createTaskList(taskCount);
+    }
+
+    private final StringBuilder response = new StringBuilder();
+
+    private StringBuilder execute(Command command, CommandLine commandLine) throws IOException {
+        response.setLength(0);
+        command.execute(commandLine, taskList, fileService, response);
+        return response;
+    }
+
+    @Benchmark
+    public StringBuilder deleteFirst() throws IOException {
+        return execute(RemoveTaskCommand.INSTANCE, DELETE_FIRST);
+    }
+
+    @Benchmark
+    public StringBuilder sortByName() throws IOException {
+        return execute(SortCommand.INSTANCE, SORT_BY_NAME);
+    }
+
+    @Benchmark
+    public StringBuilder sortByDate() throws IOException {
+        return execute(SortCommand.INSTANCE, SORT_BY_DATE);
+    }
+}
@@ -0,0 +1,83 @@
+package bot.service;
+
+import bot.BenchmarkData;
+import bot.task.Task;
+import bot.task.TaskList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link FileService#writeToFile(TaskList)} and {@link FileService#readFromFile()}
+ * in the text and binary formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileServiceBenchmark {
+    @Param({"1000", "100000"})
+    private int taskCount;
+
+    @Param({".txt", ".bin"})
+    private String extension;
+
+    private Path directory;
+
+    private FileService fileService;
+
+    private TaskList taskList;
+
+    /**
+     * Writes the generated task list once, so reads start from a populated file.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("benchmark");
+        fileService = new FileService(directory.resolve("taskData" + extension).toString());
+        taskList = BenchmarkData.createTaskList(taskCount);
+        fileService.writeToFile(taskList);
+    }
+
+    /**
+     * Deletes the task file and its directory.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void writeToFile() throws IOException {
+        fileService.writeToFile(taskList);
+    }
+
+    @Benchmark
+    public List<Task> readFromFile() throws IOException {
+        return fileService.readFromFile();
+    }
+}
@@ -0,0 +1,80 @@
+package bot.service;
+
+import bot.task.Task;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the startup time of loading a large task file with {@code Files.readAllLines()}
+ * against the {@link StreamingTaskLoader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FileServiceReadBenchmark {
+    @Param({"1000000"})
+    private int lineCount;
+
+    private Path file;
+
+    /**
+     * Writes a task file with a mix of to-do, deadline and event lines.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("taskData", ".txt");
+
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            switch (i % 3) {
+            case 0 -> data.append("T | 0 | read book ").append(i).append("\n");
+            case 1 -> data.append("D | 1 | return book ").append(i).append(" | 02-05-2025 1300\n");
+            default -> data.append("E | 0 | project meeting ").append(i)
+                    .append(" | 02-05-2025 1300 | 02-05-2025 1500\n");
+            }
+        }
+        Files.writeString(file, data.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Loads the file the way {@code FileService.readFromFile()} used to.
+     */
+    @Benchmark
+    public List<Task> readAllLines() throws IOException {
+        return Files.readAllLines(file).stream().map(Task::createTaskFromFileString).toList();
+    }
+
+    /**
+     * Loads the file with the memory-mapped, parallel loader.
+     */
+    @Benchmark
+    public List<Task> streamingLoader() throws IOException {
+        return new StreamingTaskLoader().load(file);
+    }
+}
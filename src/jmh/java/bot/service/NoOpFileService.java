@@ -0,0 +1,18 @@
+package bot.service;
+
+import bot.task.TaskList;
+
+/**
+ * A {@link FileService} that never touches the disk, so that command benchmarks
+ * measure the command and the task list only.
+ */
+public class NoOpFileService extends FileService {
+    public NoOpFileService() {
+        super("benchmark/unused.txt");
+    }
+
+    @Override
+    public void writeToFile(TaskList taskList) {
+        // Persistence is measured by FileServiceBenchmark
+    }
+}
@@ -0,0 +1,37 @@
+package bot.task;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Task#createTaskFromFileString(String)} for every task type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskFileStringBenchmark {
+    @Param({
+        "T | 1 | read book",
+        "D | 0 | return book | 02-05-2025 1300",
+        "E | 0 | project meeting | 02-05-2025 1300 | 02-05-2025 1500"
+    })
+    private String fileString;
+
+    @Benchmark
+    public Task createTaskFromFileString() {
+        return Task.createTaskFromFileString(fileString);
+    }
+}
@@ -0,0 +1,76 @@
+package bot.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sorting by name with the cached sort keys against lowercasing both names
+ * on every comparison.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate of each variant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TaskSortBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    private int taskCount;
+
+    private List<Task> tasks;
+
+    /**
+     * Creates to-do tasks with random mixed-case names from a fixed seed.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int j = 0; j < 16; j++) {
+                char letter = (char) ('a' + random.nextInt(26));
+                name.append(random.nextBoolean() ? Character.toUpperCase(letter) : letter);
+            }
+            tasks.add(new Todo(name.toString()));
+        }
+    }
+
+    /**
+     * Sorts a copy of the tasks the way {@code Task.compareTo} used to.
+     */
+    @Benchmark
+    public List<Task> lowerCasePerComparison() {
+        List<Task> copy = new ArrayList<>(tasks);
+        copy.sort(Comparator.comparing(task -> task.getName().toLowerCase()));
+        return copy;
+    }
+
+    /**
+     * Sorts a copy of the tasks with the cached sort keys.
+     */
+    @Benchmark
+    public List<Task> cachedSortKey() {
+        List<Task> copy = new ArrayList<>(tasks);
+        copy.sort(Task::compareTo);
+        return copy;
+    }
+}
@@ -0,0 +1,118 @@
+package bot.ui;
+
+import bot.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.image.Image;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+/**
+ * Measures the JavaFX layout time per pulse after a long chat session, for the
+ * virtualized chat history of {@link MainWindow} or, with {@code --vbox}, for a VBox
+ * holding a dialog box per message as the main window used to.
+ * <p>
+ * This is not a JMH benchmark, since pulses only run for a shown stage on the JavaFX
+ * application thread. Run it on a machine with a display from the jar built by
+ * {@code ./gradlew jmhJar}:
+ * {@code java -cp <jmh jar> bot.ui.ChatHistoryPulseMeasurement [exchanges] [--vbox]}
+ * <p>
+ * It fills the history with the given number of exchanges, 10000 by default, then
+ * appends one more exchange per pulse as a chatting user would, and prints the layout
+ * time per pulse and the heap in use.
+ */
+public class ChatHistoryPulseMeasurement extends Application {
+    private static final int DEFAULT_EXCHANGE_COUNT = 10000;
+
+    /** Pulses run before measuring, so the layout of the filled history is not counted */
+    private static final int WARMUP_PULSES = 30;
+
+    private static final int MEASURED_PULSES = 300;
+
+    private static final String RESPONSE = "YAY! You now have another task to work on: [T][ ] read book (#1)"
+            + "\nNow you have 1 tasks in the list.";
+
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+
+    @Override
+    public void start(Stage stage) throws IOException {
+        List<String> args = getParameters().getRaw();
+        int exchangeCount = args.stream().filter(arg -> arg.matches("\\d+")).findFirst()
+                .map(Integer::parseInt).orElse(DEFAULT_EXCHANGE_COUNT);
+        boolean isVBox = args.contains("--vbox");
+
+        Parent root;
+        IntConsumer addExchange;
+        if (isVBox) {
+            Image userImage = new Image(MainWindow.class.getResourceAsStream("/images/DaUser.png"));
+            Image botImage = new Image(MainWindow.class.getResourceAsStream("/images/DaBot.png"));
+            VBox dialogContainer = new VBox();
+            ScrollPane scrollPane = new ScrollPane(dialogContainer);
+            scrollPane.setFitToWidth(true);
+            scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+            root = scrollPane;
+            addExchange = i -> dialogContainer.getChildren().addAll(
+                    DialogBox.getUserDialog("todo read book " + i, userImage),
+                    DialogBox.getBotDialog(RESPONSE, botImage));
+        } else {
+            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/MainWindow.fxml"));
+            root = fxmlLoader.load();
+            MainWindow mainWindow = fxmlLoader.getController();
+            addExchange = i -> mainWindow.addExchange("todo read book " + i, RESPONSE);
+        }
+
+        Scene scene = new Scene(root, 400, 600);
+        stage.setScene(scene);
+        stage.show();
+
+        for (int i = 0; i < exchangeCount; i++) {
+            addExchange.accept(i);
+        }
+
+        new AnimationTimer() {
+            private int pulseCount = 0;
+            private PulseMonitor monitor;
+
+            @Override
+            public void handle(long now) {
+                pulseCount++;
+                if (pulseCount == WARMUP_PULSES) {
+                    monitor = PulseMonitor.attach(scene);
+                }
+                if (pulseCount < WARMUP_PULSES + MEASURED_PULSES) {
+                    addExchange.accept(exchangeCount + pulseCount);
+                    return;
+                }
+
+                stop();
+                report(isVBox ? "VBox" : "ListView", exchangeCount, monitor.getLayoutHistogram());
+                Platform.exit();
+            }
+        }.start();
+    }
+
+    private static void report(String historyType, int exchangeCount, LatencyHistogram histogram) {
+        System.gc();
+        long usedHeap = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+
+        System.out.printf("%s after %d exchanges: layout per pulse mean %.2f ms, p99 %.2f ms, max %.2f ms"
+                        + " over %d pulses, heap in use %d MB%n",
+                historyType, exchangeCount, histogram.getMeanNanos() / NANOS_PER_MILLI,
+                histogram.getPercentileNanos(99) / NANOS_PER_MILLI, histogram.getMaxNanos() / NANOS_PER_MILLI,
+                histogram.getCount(), usedHeap / (1024 * 1024));
+    }
+}
@@ -0,0 +1,131 @@
+package bot.ui;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures creating chat bubbles with {@link DialogBox}, which builds its nodes in code,
+ * against loading every bubble from {@code DialogBox.fxml} as dialog boxes used to, and
+ * against reusing a bubble for another message as {@link DialogCell} does.
+ * <p>
+ * The score is in bubbles per second. Run it with the gc profiler for the bytes
+ * allocated per bubble, on a machine with a display since images need the JavaFX toolkit:
+ * {@code ./gradlew jmh -Pjmh.includes=DialogBoxBenchmark -Pjmh.profilers=gc}
+ * <p>
+ * The bubbles are never shown, so styling and layout, which cost the same for both
+ * ways of creating them, are not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DialogBoxBenchmark {
+    private static final String RESPONSE = "YAY! You now have another task to work on: [T][ ] read book (#1)"
+            + "\nNow you have 1 tasks in the list.";
+
+    private Image userImage;
+
+    private Image botImage;
+
+    private DialogBox recycledDialog;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // The toolkit is already running
+        }
+
+        userImage = new Image(MainWindow.class.getResourceAsStream("/images/DaUser.png"));
+        botImage = new Image(MainWindow.class.getResourceAsStream("/images/DaBot.png"));
+        recycledDialog = DialogBox.getBotDialog(RESPONSE, botImage);
+    }
+
+    @Benchmark
+    public HBox fxmlUserDialog() {
+        return new FxmlDialogBox("todo read book", userImage);
+    }
+
+    @Benchmark
+    public HBox fxmlBotDialog() {
+        FxmlDialogBox dialogBox = new FxmlDialogBox(RESPONSE, botImage);
+        dialogBox.flip();
+        return dialogBox;
+    }
+
+    @Benchmark
+    public HBox userDialog() {
+        return DialogBox.getUserDialog("todo read book", userImage);
+    }
+
+    @Benchmark
+    public HBox botDialog() {
+        return DialogBox.getBotDialog(RESPONSE, botImage);
+    }
+
+    @Benchmark
+    public HBox recycledDialog() {
+        recycledDialog.setText(RESPONSE);
+        return recycledDialog;
+    }
+
+    /**
+     * A dialog box loaded from FXML for every bubble, as dialog boxes used to be.
+     */
+    static class FxmlDialogBox extends HBox {
+        @FXML
+        private Label dialog;
+        @FXML
+        private ImageView displayPicture;
+
+        FxmlDialogBox(String text, Image img) {
+            try {
+                FXMLLoader fxmlLoader = new FXMLLoader(DialogBoxBenchmark.class.getResource("/view/DialogBox.fxml"));
+                fxmlLoader.setController(this);
+                fxmlLoader.setRoot(this);
+                fxmlLoader.load();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            dialog.setText(text);
+            displayPicture.setImage(img);
+        }
+
+        void flip() {
+            ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
+            Collections.reverse(tmp);
+            getChildren().setAll(tmp);
+            setAlignment(Pos.TOP_LEFT);
+            dialog.getStyleClass().add("reply-label");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package bot.ui;
+
+import bot.metrics.LatencyHistogram;
+import javafx.scene.Scene;
+
+/**
+ * Measures the time JavaFX spends on CSS and layout of a scene in every pulse.
+ * <p>
+ * This is the part of a pulse that grows with the number of nodes in the scene, so
+ * it shows whether the chat history stays cheap to lay out as a session goes on.
+ * Listeners run on the JavaFX application thread, like the histogram reads should.
+ */
+public class PulseMonitor {
+    private final LatencyHistogram layoutHistogram = new LatencyHistogram();
+
+    private long layoutStartTime;
+
+    private PulseMonitor() {
+    }
+
+    /**
+     * Starts measuring every layout pulse of the scene.
+     *
+     * @param scene The scene to measure.
+     * @return The monitor recording the layout time of each pulse.
+     */
+    public static PulseMonitor attach(Scene scene) {
+        PulseMonitor monitor = new PulseMonitor();
+        scene.addPreLayoutPulseListener(() -> monitor.layoutStartTime = System.nanoTime());
+        scene.addPostLayoutPulseListener(() -> monitor.layoutHistogram.record(System.nanoTime()
+                - monitor.layoutStartTime));
+        return monitor;
+    }
+
+    public LatencyHistogram getLayoutHistogram() {
+        return layoutHistogram;
+    }
+}
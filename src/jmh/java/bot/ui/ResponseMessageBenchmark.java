@@ -0,0 +1,65 @@
+package bot.ui;
+
+import bot.BenchmarkData;
+import bot.task.Task;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rendering a task list with {@link ResponseMessage#getTaskListMessage(List)}, against
+ * rendering a page of it and streaming the whole list to an output without building a string.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMessageBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"100", "10000", "100000"})
+    private int taskCount;
+
+    private List<Task> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tasks = BenchmarkData.createTasks(taskCount, BenchmarkData.DEFAULT_SEED);
+    }
+
+    @Benchmark
+    public String getTaskListMessage() {
+        return ResponseMessage.getTaskListMessage(tasks);
+    }
+
+    @Benchmark
+    public String getTaskListPageMessage() {
+        // A middle page, since skipping to it is what could grow with the list
+        int page = ResponseMessage.getPageCount(tasks.size(), PAGE_SIZE) / 2 + 1;
+        return ResponseMessage.getTaskListPageMessage(tasks, page, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Writer writeTaskListPage() throws IOException {
+        Writer out = Writer.nullWriter();
+        ResponseMessage.writeTaskListPage(tasks, 1, tasks.size(), out);
+        return out;
+    }
+}
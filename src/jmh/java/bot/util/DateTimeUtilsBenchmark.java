@@ -0,0 +1,41 @@
+package bot.util;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DateTimeUtils#fromString(String)} for every supported format and a rejected input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeUtilsBenchmark {
+    @Param({"02-05-2025 1300", "02/05/2025 1300", "02-05-2025", "02/05/2025", "02 May 25 13:00", "Sunday"})
+    private String input;
+
+    /**
+     * Parses the input, returning null for a rejected input so both outcomes are measured.
+     */
+    @Benchmark
+    public LocalDateTime fromString() {
+        try {
+            return DateTimeUtils.fromString(input);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package bot.util;
+
+import bot.command.AddDeadlineCommand;
+import bot.command.AddEventCommand;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link Parser#parse(String)} for every command type, and splitting a line
+ * into its parts with {@link CommandLine} against the {@link String#split(String)} calls
+ * that the parser and the commands used to make.
+ * <p>
+ * Run it with the gc profiler for the bytes allocated per parsed line:
+ * {@code ./gradlew jmh -Pjmh.includes=ParserBenchmark -Pjmh.profilers=gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({
+        "bye",
+        "list",
+        "mark 12",
+        "unmark 12",
+        "todo read book",
+        "deadline return book /by 02-05-2025 1300",
+        "event project meeting /from 02-05-2025 1300 /to 02-05-2025 1500",
+        "delete 12",
+        "find book",
+        "sort date",
+        "unknown command"
+    })
+    private String input;
+
+    /** The options of the command of the input, as registered with the parser */
+    private String[] optionNames;
+
+    /** The options between spaces, e.g. " /by ", as the commands used to split on them */
+    private String[] optionSeparators;
+
+    @Setup
+    public void setUp() {
+        if (input.startsWith("deadline ")) {
+            optionNames = new String[] {AddDeadlineCommand.BY_OPTION};
+        } else if (input.startsWith("event ")) {
+            optionNames = new String[] {AddEventCommand.FROM_OPTION, AddEventCommand.TO_OPTION};
+        } else {
+            optionNames = new String[0];
+        }
+
+        optionSeparators = new String[optionNames.length];
+        for (int i = 0; i < optionNames.length; i++) {
+            optionSeparators[i] = " " + optionNames[i] + " ";
+        }
+    }
+
+    @Benchmark
+    public CommandLine parse() {
+        return Parser.parse(input);
+    }
+
+    @Benchmark
+    public void tokenize(Blackhole blackhole) {
+        CommandLine commandLine = CommandLine.of(input, optionNames);
+        if (optionNames.length == 0) {
+            blackhole.consume(commandLine.getArgument());
+            return;
+        }
+
+        blackhole.consume(commandLine.getArgumentBeforeOptions());
+        for (String optionName : optionNames) {
+            blackhole.consume(commandLine.getOption(optionName));
+        }
+    }
+
+    @Benchmark
+    public void split(Blackhole blackhole) {
+        String[] commandInfo = input.split(" ", 2);
+        if (commandInfo.length < 2 || optionSeparators.length == 0) {
+            blackhole.consume(commandInfo);
+            return;
+        }
+
+        // Each option splits what follows the option before it
+        String rest = commandInfo[1];
+        for (String optionSeparator : optionSeparators) {
+            String[] parts = rest.split(optionSeparator);
+            blackhole.consume(parts[0]);
+            rest = parts[parts.length - 1];
+        }
+        blackhole.consume(rest);
+    }
+}
@@ -1,16 +1,34 @@
 package bot;
 
+import bot.command.BatchCommand;
 import bot.command.Command;
+import bot.metrics.Metrics;
+import bot.reminder.ReminderListener;
+import bot.reminder.ReminderScheduler;
 import bot.service.FileService;
 import bot.task.TaskList;
+import bot.util.CommandLine;
 import bot.util.Parser;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Main class for the bot application that manages tasks and user interactions.
  * This class orchestrates the entire application flow, handling user input,
  * command execution, and data persistence.
+ * <p>
+ * A Bot can be shared by many threads, e.g. by the connections of a {@link Server}.
+ * Parsing runs in parallel on the calling threads. Commands that change the task list
+ * run one at a time, while read-only commands such as list and find may run at the
+ * same time as each other, so they see the task list between two changes.
+ * {@link TaskList} is thread-safe on its own; this lock additionally keeps each change
+ * and its save together, so changes reach the file in the order they were made.
  */
 public class Bot {
     /** Name of the bot */
@@ -22,6 +40,13 @@ public class Bot {
     /** File service API that write and read from file **/
     private final FileService fileService;
 
+    /** Lock that serializes changes to the task list against every other command **/
+    private final ReadWriteLock commandLock = new ReentrantReadWriteLock();
+
+    /** Reminders of deadlines and events, only kept once {@link #startReminders} is called **/
+    private final ReminderScheduler reminderScheduler =
+            new ReminderScheduler(ReminderScheduler.DEFAULT_LEAD_TIME, Clock.systemDefaultZone());
+
     /**
      * Constructs a Bot instance with the specified name and storage path.
      * Initializes the user interface, file services, and loads existing tasks
@@ -31,36 +56,163 @@ public class Bot {
      * @param storagePath the file path where task data will be stored
      */
     public Bot(String name, String storagePath) {
+        this(name, new FileService(storagePath));
+    }
+
+    /**
+     * Constructs a Bot instance with the specified name and file service.
+     * Loads existing tasks through the file service if available.
+     *
+     * @param name the name of the bot to be displayed to users
+     * @param fileService the file service used to read and persist tasks
+     */
+    public Bot(String name, FileService fileService) {
         this.name = name;
-        this.fileService = new FileService(storagePath);
+        this.fileService = fileService;
 
         try {
             this.taskList = new TaskList(fileService.readFromFile());
         } catch (IOException | IllegalArgumentException e) {
             taskList = new TaskList();
         }
+
+        Metrics.setTaskListSize(taskList.getSize());
     }
 
     /**
      * Processes user input, executes the corresponding command, and returns a response.
-     * This method parses the input string into a {@link Command}, executes it, and
-     * returns the resulting message. If the command is an exit command, it
-     * terminates the application.
+     * This method parses the input string into a {@link CommandLine}, executes its command,
+     * and returns the resulting message. The latency of each phase is recorded in {@link Metrics}.
+     * Callers that need to know whether the user asked to exit should use
+     * {@link #generateResponse(String, Appendable)} instead.
      *
      * @param input The raw input string from the user.
      * @return The response message generated by the executed command.
      */
     public String generateResponse(String input) {
-        // Parse user input into Command object
-        Command command = Parser.parse(input);
+        return executeCommand(parseCommand(input));
+    }
+
+    /**
+     * Processes user input like {@link #generateResponse(String)}, but writes the response
+     * to the given output. Long responses such as the list are written one line at a time
+     * while they are rendered, so they are never held in memory as a whole, and callers
+     * that answer many commands can reuse one buffer for every response.
+     *
+     * @param input The raw input string from the user.
+     * @param out The output that the response is written to, without a trailing divider.
+     * @return How the command ended.
+     * @throws IOException If the output cannot be written to.
+     */
+    public Command.Result generateResponse(String input, Appendable out) throws IOException {
+        return executeCommand(parseCommand(input), out);
+    }
+
+    /**
+     * Executes many commands as one transaction and returns the response of every command.
+     * The task list is saved once after the last command. If any command fails, every
+     * change made by the batch is rolled back and nothing is saved.
+     *
+     * @param inputs The raw input strings, one command per element.
+     * @return The response of every command, followed by whether the batch succeeded.
+     */
+    public String executeBatch(List<String> inputs) {
+        StringBuilder out = new StringBuilder();
+        Lock lock = commandLock.writeLock();
+        lock.lock();
+        try {
+            long executeStartTime = System.nanoTime();
+            try {
+                BatchCommand.INSTANCE.executeLines(inputs, taskList, fileService, out);
+            } finally {
+                // Recorded even if the batch throws, so its nested time never leaks into the next command
+                Metrics.recordExecution(BatchCommand.class.getSimpleName(), System.nanoTime() - executeStartTime);
+                Metrics.setTaskListSize(taskList.getSize());
+            }
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder should never throw IOException", e);
+        } finally {
+            lock.unlock();
+        }
+        return out.toString();
+    }
 
-        command.execute(taskList, fileService);
+    /**
+     * Parses user input without executing it, recording the parse latency.
+     * Callers can check e.g. {@link Command#isReadOnly()} of its command before passing
+     * it to {@link #executeCommand(CommandLine)}.
+     *
+     * @param input The raw input string from the user.
+     * @return The parsed input, holding the command that runs it.
+     */
+    public CommandLine parseCommand(String input) {
+        long parseStartTime = System.nanoTime();
+        CommandLine commandLine = Parser.parse(input);
+        Metrics.record(commandLine.getCommand().getClass().getSimpleName(), Metrics.Phase.PARSE,
+                System.nanoTime() - parseStartTime);
+        return commandLine;
+    }
+
+    /**
+     * Executes parsed user input and returns its response, recording its latency.
+     *
+     * @param commandLine The parsed input.
+     * @return The response message generated by the executed command.
+     * @throws UncheckedIOException If rendering the response is interrupted.
+     */
+    public String executeCommand(CommandLine commandLine) {
+        StringBuilder out = new StringBuilder();
+        try {
+            executeCommand(commandLine, out);
+        } catch (IOException e) {
+            // A StringBuilder never fails, only rendering interrupted by the thread can
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
 
-        if (command.isExit()) {
-            System.exit(0);
+    /**
+     * Executes parsed user input and writes its response to the given output, recording
+     * its latency. An exit command only returns {@link Command.Result#EXIT}, it is up to
+     * the caller to close its connection or to stop the application.
+     *
+     * @param commandLine The parsed input.
+     * @param out The output that the response is written to.
+     * @return How the command ended.
+     * @throws IOException If the output cannot be written to.
+     */
+    public Command.Result executeCommand(CommandLine commandLine, Appendable out) throws IOException {
+        Command command = commandLine.getCommand();
+        Command.Result result;
+        Lock lock = command.isReadOnly() ? commandLock.readLock() : commandLock.writeLock();
+        lock.lock();
+        try {
+            long executeStartTime = System.nanoTime();
+            try {
+                result = command.execute(commandLine, taskList, fileService, out);
+            } finally {
+                // Record latencies, persistence and rendering are split off the execution time.
+                // Recorded even if the command throws, so its nested time never leaks into the next command.
+                Metrics.recordExecution(command.getClass().getSimpleName(), System.nanoTime() - executeStartTime);
+                Metrics.setTaskListSize(taskList.getSize());
+            }
+        } finally {
+            lock.unlock();
         }
+        return result;
+    }
 
-        return command.getResponse();
+    /**
+     * Starts reminding the listener of deadlines and events that are near. From then on
+     * the reminders follow every change to the task list. Bots that only serve commands,
+     * e.g. in benchmarks, never pay for reminders.
+     *
+     * @param listener The listener that is called with every reminder, on the reminder thread.
+     */
+    public void startReminders(ReminderListener listener) {
+        reminderScheduler.addListener(listener);
+        taskList.addListener(reminderScheduler);
+        reminderScheduler.start();
     }
 
     /**
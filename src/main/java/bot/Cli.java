@@ -0,0 +1,141 @@
+package bot;
+
+import bot.command.Command;
+import bot.metrics.Metrics;
+import bot.service.FileService;
+import bot.task.Task;
+import bot.ui.ResponseMessage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A headless command line interface for Lovely that does not start JavaFX.
+ * <p>
+ * Commands are read line by line from stdin, or from a file if one is given, and
+ * each response is written to stdout as soon as it is generated. This runs on
+ * machines without a display and is used by the text UI test. Reminders of deadlines
+ * and events are written between responses, never in the middle of one.
+ * <p>
+ * Usage: {@code java bot.Cli [--data <task file>] [--durability <durability>] [--jmx] [<input file>]}
+ * <p>
+ * The durability picks how changes are saved, see {@link FileService#forDurability}.
+ * <p>
+ * The metrics MBean is only registered with {@code --jmx}, since starting the
+ * platform MBean server takes longer than the rest of the startup.
+ */
+public class Cli {
+    /** Default task file, the same one the GUI uses */
+    public static final String DEFAULT_STORAGE_PATH = "data/taskData.txt";
+
+    /** Line printed after every response */
+    private static final String DIVIDER = "____________________________________________________________";
+
+    private final Bot bot;
+
+    private final PrintStream out;
+
+    /**
+     * Constructs a Cli that writes the responses of the bot to the given stream.
+     *
+     * @param bot the bot that generates responses
+     * @param out the stream that responses are written to
+     */
+    public Cli(Bot bot, PrintStream out) {
+        this.bot = bot;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String storagePath = DEFAULT_STORAGE_PATH;
+        String durability = FileService.JOURNAL_DURABILITY;
+        Path inputPath = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--data") && i + 1 < args.length) {
+                storagePath = args[++i];
+            } else if (args[i].equals("--durability") && i + 1 < args.length) {
+                durability = args[++i];
+            } else if (args[i].equals("--jmx")) {
+                Metrics.registerMBean();
+            } else if (!args[i].equals("--cli")) {
+                inputPath = Path.of(args[i]);
+            }
+        }
+
+        Bot bot = new Bot("Lovely", FileService.forDurability(storagePath, durability));
+        Cli cli = new Cli(bot, System.out);
+        bot.startReminders(cli::printReminder);
+
+        if (inputPath == null) {
+            cli.run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+        } else {
+            try (BufferedReader reader = Files.newBufferedReader(inputPath)) {
+                cli.run(reader);
+            }
+        }
+    }
+
+    /**
+     * Prints the greeting, then runs every non-blank line of the input as a command
+     * until the input ends or the bot exits.
+     *
+     * @param reader the input to read commands from, one command per line
+     * @throws IOException If the input cannot be read.
+     */
+    public void run(BufferedReader reader) throws IOException {
+        print(bot.getGreetingMessage());
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String input = line.trim();
+            if (input.isEmpty()) {
+                continue;
+            }
+
+            // Long responses are written as they are rendered instead of as one string
+            synchronized (out) {
+                if (bot.generateResponse(input, out) == Command.Result.EXIT) {
+                    out.flush();
+                    return;
+                }
+                printDivider();
+            }
+        }
+    }
+
+    /**
+     * Writes a reminder followed by a divider, after the response being written if any.
+     *
+     * @param task the task that is near
+     */
+    public void printReminder(Task task) {
+        synchronized (out) {
+            print(ResponseMessage.getReminderMessage(task));
+        }
+    }
+
+    /**
+     * Writes a response followed by a divider and flushes it, so that responses are
+     * streamed while later commands are still being read.
+     *
+     * @param response the response to be written
+     */
+    private void print(String response) {
+        out.print(response);
+        printDivider();
+    }
+
+    /**
+     * Ends the current response with a divider and flushes it.
+     */
+    private void printDivider() {
+        out.println();
+        out.println(DIVIDER);
+        out.flush();
+    }
+}
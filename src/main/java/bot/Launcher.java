@@ -1,12 +1,26 @@
 package bot;
 
+import java.io.IOException;
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
  * A launcher class to workaround classpath issues.
+ * Pass {@code --cli} to run the headless {@link Cli} or {@code --server} to run the
+ * {@link Server} instead of the GUI.
  */
 public class Launcher {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (Arrays.asList(args).contains("--cli")) {
+            // Headless mode never loads JavaFX, so it runs without a display
+            Cli.main(args);
+            return;
+        } else if (Arrays.asList(args).contains("--server")) {
+            Server.main(args);
+            return;
+        }
+
         Application.launch(Main.class, args);
     }
 }
@@ -1,7 +1,11 @@
 package bot;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 
+import bot.metrics.Metrics;
+import bot.service.FileService;
 import bot.ui.MainWindow;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -11,20 +15,39 @@ import javafx.stage.Stage;
 
 /**
  * A GUI for Lovely using FXML.
+ * <p>
+ * Pass {@code --spill-history} to save chat messages that no longer fit in the
+ * chat history to {@value #CHAT_HISTORY_PATH} instead of discarding them. Pass
+ * {@code --durability <durability>} to pick how changes are saved, see
+ * {@link FileService#forDurability}. Commands, and so their saves, always run off the
+ * JavaFX application thread.
  */
 public class Main extends Application {
-
-    private final Bot bot = new Bot("Lovely", "data/taskData.txt");
+    /** Transcript that older chat messages are saved to with {@code --spill-history} */
+    public static final String CHAT_HISTORY_PATH = "data/chatHistory.txt";
 
     @Override
     public void start(Stage stage) {
+        Metrics.registerMBean();
+
+        List<String> args = getParameters().getRaw();
+        int durabilityIndex = args.indexOf("--durability");
+        String durability = durabilityIndex >= 0 && durabilityIndex + 1 < args.size()
+                ? args.get(durabilityIndex + 1)
+                : FileService.JOURNAL_DURABILITY;
+        Bot bot = new Bot("Lovely", FileService.forDurability(Cli.DEFAULT_STORAGE_PATH, durability));
+
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("/view/MainWindow.fxml"));
             AnchorPane ap = fxmlLoader.load();
             Scene scene = new Scene(ap);
             stage.setTitle("Lovely");
             stage.setScene(scene);
-            fxmlLoader.<MainWindow>getController().setBot(bot);  // inject the bot instance
+            MainWindow mainWindow = fxmlLoader.getController();
+            if (args.contains("--spill-history")) {
+                mainWindow.setHistorySpillPath(Path.of(CHAT_HISTORY_PATH));
+            }
+            mainWindow.setBot(bot);  // inject the bot instance
             stage.show();
         } catch (IOException e) {
             e.printStackTrace();
@@ -0,0 +1,224 @@
+package bot;
+
+import bot.command.Command;
+import bot.service.FileService;
+import bot.ui.ResponseMessage;
+import bot.util.CommandLine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A server that lets many clients on this machine talk to one {@link Bot} over TCP.
+ * <p>
+ * The server only listens on the loopback address. The protocol is line based and
+ * UTF-8 encoded: a client sends one command per line, the same text it would type
+ * into the GUI, and the server answers every line with a response frame. A frame is
+ * the lines of the response followed by a line holding a single {@code "."}; response
+ * lines that start with {@code "."} get an extra {@code "."} in front, which the client
+ * removes. The greeting is sent as the first frame. An exit command, e.g. "bye", closes
+ * the connection without a frame instead of stopping the server. Commands that read
+ * local files, such as "batch", are refused, see {@link Command#isLocalOnly()}.
+ * <p>
+ * Every connection is handled by its own thread from a cached pool, so a slow client
+ * never holds up the others. How commands from different connections run against the
+ * shared task list is decided by {@link Bot}.
+ * <p>
+ * Usage: {@code java bot.Server [--port <port>] [--data <task file>] [--durability <durability>]}
+ * <p>
+ * The durability picks how changes are saved, see {@link FileService#forDurability}.
+ */
+public class Server {
+    /** Default port of the server */
+    public static final int DEFAULT_PORT = 7878;
+
+    /** Line that ends every response frame */
+    public static final String END_OF_RESPONSE = ".";
+
+    private final Bot bot;
+
+    private final ServerSocket serverSocket;
+
+    private final ExecutorService connectionExecutor;
+
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a Server on the given port of the loopback address. The server only
+     * accepts connections after {@link #start()}.
+     *
+     * @param bot the bot that answers every connection
+     * @param port the port to listen on, or 0 to pick a free port
+     * @throws IOException If the port cannot be bound.
+     */
+    public Server(Bot bot, int port) throws IOException {
+        this.bot = bot;
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+
+        AtomicInteger connectionCount = new AtomicInteger();
+        this.connectionExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "server-connection-" + connectionCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        String storagePath = Cli.DEFAULT_STORAGE_PATH;
+        String durability = FileService.JOURNAL_DURABILITY;
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals("--port")) {
+                port = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--data")) {
+                storagePath = args[++i];
+            } else if (args[i].equals("--durability")) {
+                durability = args[++i];
+            }
+        }
+
+        Server server = new Server(new Bot("Lovely", FileService.forDurability(storagePath, durability)), port);
+        System.out.println("Lovely is listening on " + server.serverSocket.getLocalSocketAddress());
+        server.acceptConnections();
+    }
+
+    /**
+     * Starts accepting connections on a background thread.
+     */
+    public void start() {
+        Thread acceptor = new Thread(this::acceptConnections, "server-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The local port of the server.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections and closes every open connection.
+     *
+     * @throws IOException If the server socket cannot be closed.
+     */
+    public void stop() throws IOException {
+        serverSocket.close();
+        for (Socket connection : connections) {
+            connection.close();
+        }
+        connectionExecutor.shutdown();
+    }
+
+    /**
+     * Accepts connections until the server is stopped, handing each to its own thread.
+     */
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket connection = serverSocket.accept();
+                connections.add(connection);
+                connectionExecutor.execute(() -> handleConnection(connection));
+            } catch (IOException e) {
+                // The server socket was closed by stop(), or the accept failed for this client only
+            }
+        }
+    }
+
+    /**
+     * Answers every command of a connection until the client says bye or disconnects.
+     *
+     * @param connection the connection to a client
+     */
+    private void handleConnection(Socket connection) {
+        try (connection;
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                Writer out = new BufferedWriter(
+                        new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8))) {
+            writeResponse(out, bot.getGreetingMessage());
+
+            // Every response of the connection is written to the same buffer
+            StringBuilder response = new StringBuilder();
+            String line;
+            while ((line = in.readLine()) != null) {
+                String input = line.trim();
+                response.setLength(0);
+                if (!input.isEmpty() && executeCommand(input, response) == Command.Result.EXIT) {
+                    // Only this connection ends, the bot keeps serving other clients
+                    break;
+                }
+                writeResponse(out, response);
+            }
+        } catch (IOException e) {
+            // The client disconnected, nothing is left to answer
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    /**
+     * Runs a command for a client, refusing commands that only run for a local user.
+     * A batch script would otherwise read any file that the server can read, and echo
+     * its lines back to the client in the error of each failing line.
+     *
+     * @param input the trimmed, non-empty input of the client
+     * @param response the buffer that the response is written to
+     * @return how the command ended
+     * @throws IOException If rendering the response is interrupted.
+     */
+    private Command.Result executeCommand(String input, StringBuilder response) throws IOException {
+        CommandLine commandLine = bot.parseCommand(input);
+        if (commandLine.getCommand().isLocalOnly()) {
+            response.append(ResponseMessage.getLocalOnlyMessage());
+            return Command.Result.FAILED;
+        }
+        return bot.executeCommand(commandLine, response);
+    }
+
+    /**
+     * Writes a response frame and flushes it to the client.
+     *
+     * @param out the stream to the client
+     * @param response the response to be written, empty for an empty response
+     * @throws IOException If the client disconnected.
+     */
+    private static void writeResponse(Writer out, CharSequence response) throws IOException {
+        int length = response.length();
+        if (length > 0) {
+            int lineStart = 0;
+            while (lineStart <= length) {
+                int lineEnd = lineStart;
+                while (lineEnd < length && response.charAt(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+
+                if (lineStart < lineEnd && response.charAt(lineStart) == END_OF_RESPONSE.charAt(0)) {
+                    out.write(END_OF_RESPONSE);
+                }
+                out.append(response, lineStart, lineEnd);
+                out.write("\n");
+                lineStart = lineEnd + 1;
+            }
+        }
+        out.write(END_OF_RESPONSE);
+        out.write("\n");
+        out.flush();
+    }
+}
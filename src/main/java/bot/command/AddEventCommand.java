@@ -5,6 +5,9 @@ import bot.exception.InvalidCommandException;
 import bot.task.TaskList;
 import bot.ui.ResponseMessage;
 import bot.task.Task;
+import bot.util.CommandLine;
+
+import java.io.IOException;
 
 /**
  * Represents a command to add an event task to the task list.
@@ -12,83 +15,54 @@ import bot.task.Task;
  * The command format should be: "event <task name> /from <start date> /to <end date>"
  */
 public class AddEventCommand extends Command {
-    private final String[] commandInfo;
+    /** Option that separates the task name from the start date */
+    public static final String FROM_OPTION = "/from";
 
-    /**
-     * Constructs an AddEventCommand with the provided command information.
-     *
-     * @param commandInfo an array containing the command details where:
-     *                    - commandInfo[0] should be "event"
-     *                    - commandInfo[1] should contain the task name, start date, and end date
-     *                      in the format: "<task name> /from <start date> /to <end date>"
-     */
-    public AddEventCommand(String[] commandInfo) {
-        this.commandInfo = commandInfo;
-    }
+    /** Option that separates the start date from the end date */
+    public static final String TO_OPTION = "/to";
+
+    public static final AddEventCommand INSTANCE = new AddEventCommand();
+
+    private AddEventCommand() {}
 
     /**
      * Executes the add event command by parsing the command information,
      * validating the format, creating a new event task, and saving it to file.
      *
+     * @param commandLine the parsed user input
      * @param taskList the task list to which the new event task will be added
      * @param fileService the file services for writing the updated task list to storage
+     * @param out the output that the response is written to
+     * @return how the command ended
      */
     @Override
-    public void execute(TaskList taskList, FileService fileService) {
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
         try {
             // Validate command format, re-prompt if incorrect command format
-            boolean isValidCommandInfo = commandInfo.length == 2;
+            boolean isValidCommandInfo = commandLine.hasAllOptions();
             if (!isValidCommandInfo) {
                 throw new InvalidCommandException(
                         "Oh no, command format is not right, let me give you a hint: " +
                                 "event <Task Name> /from <Start Date> /to <End Date>");
             }
 
-            // Split the command info with by "/from" to extract task name
-            // eventInfo[0] = task name
-            // eventInfo[1] = start date and end date
-            String[] eventInfo = commandInfo[1].split(" /from ");
-
-            // Validate command format, re-prompt if incorrect command format
-            boolean isValidEventInfo = eventInfo.length == 2;
-            if (!isValidEventInfo) {
-                throw new InvalidCommandException(
-                        "Oh no, command format is not right, let me give you a hint: " +
-                                "event <Task Name> /from <Start Date> /to <End Date>");
-            }
-
-            // Extract start and end date from the separated eventInfo (taskName, date)
-            String[] dateInfo = eventInfo[1].split(" /to ");
-
-            // Validate command format, re-prompt if incorrect command format
-            boolean isValidDateInfo = dateInfo.length == 2;
-            if (!isValidDateInfo) {
-                throw new InvalidCommandException(
-                        "Oh no, command format is not right, let me give you a hint: " +
-                                "event <Task Name> /from <Start Date> /to <End Date>");
-            }
-
-            String taskName = eventInfo[0];
-            String from = dateInfo[0];
-            String to = dateInfo[1];
+            String taskName = commandLine.getArgumentBeforeOptions();
+            String from = commandLine.getOption(FROM_OPTION);
+            String to = commandLine.getOption(TO_OPTION);
 
             // Add event task
             Task newTask = taskList.addTask(taskName, from, to);
 
             assert newTask != null : "Task added should not be null";
 
-            // Write task list to file
-            fileService.writeToFile(taskList);
+            // Persist the change to file
+            fileService.saveAddedTask(taskList, newTask);
 
             // Set success message
-            super.setResponse(ResponseMessage.getAddTaskSuccessMessage(newTask, taskList.getSize()));
+            return respond(out, ResponseMessage.getAddTaskSuccessMessage(newTask, taskList.getSize()));
         } catch (Exception e) {
-            super.setResponse(e.getMessage());
+            return respondWithError(out, e.getMessage());
         }
     }
-
-    @Override
-    public boolean isExit() {
-        return false;
-    }
 }
@@ -5,6 +5,9 @@ import bot.exception.InvalidCommandException;
 import bot.task.TaskList;
 import bot.ui.ResponseMessage;
 import bot.task.Task;
+import bot.util.CommandLine;
+
+import java.io.IOException;
 
 /**
  * Represents a command to add a to-do task to the task list.
@@ -12,56 +15,46 @@ import bot.task.Task;
  * The command format should be: "todo <task name>"
  */
 public class AddTodoCommand extends Command {
-    private final String[] commandInfo;
+    public static final AddTodoCommand INSTANCE = new AddTodoCommand();
 
-    /**
-     * Constructs an AddTodoCommand with the provided command information.
-     *
-     * @param commandInfo an array containing the command details where:
-     *                    - commandInfo[0] should be "todo"
-     *                    - commandInfo[1] should contain the task name
-     */
-    public AddTodoCommand(String[] commandInfo) {
-        this.commandInfo = commandInfo;
-    }
+    private AddTodoCommand() {}
 
     /**
      * Executes the add to-do command by parsing the command information,
      * validating the format, creating a new to-do task, and saving it to file.
      *
+     * @param commandLine the parsed user input
      * @param taskList the task list to which the new to-do task will be added
      * @param fileService the file services for writing the updated task list to storage
+     * @param out the output that the response is written to
+     * @return how the command ended
      */
     @Override
-    public void execute(TaskList taskList, FileService fileService) {
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
         try {
             // Validate command format, re-prompt if incorrect command format
-            boolean isValidCommandInfo = commandInfo.length == 2;
+            boolean isValidCommandInfo = commandLine.hasArgument();
             if (!isValidCommandInfo) {
                 throw new InvalidCommandException(
                         "Oh no, command format is not right, let me give you a hint: " +
                                 "todo <Task Name>");
             }
 
-            String taskName = commandInfo[1];
+            String taskName = commandLine.getArgument();
 
             // Add To-do task
             Task newTask = taskList.addTask(taskName);
 
             assert newTask != null : "Task added should not be null";
 
-            // Write task list to file
-            fileService.writeToFile(taskList);
+            // Persist the change to file
+            fileService.saveAddedTask(taskList, newTask);
 
             // Set success message
-            super.setResponse(ResponseMessage.getAddTaskSuccessMessage(newTask, taskList.getSize()));
+            return respond(out, ResponseMessage.getAddTaskSuccessMessage(newTask, taskList.getSize()));
         } catch (Exception e) {
-            super.setResponse(e.getMessage());
+            return respondWithError(out, e.getMessage());
         }
     }
-
-    @Override
-    public boolean isExit() {
-        return false;
-    }
 }
@@ -0,0 +1,182 @@
+package bot.command;
+
+import bot.exception.InvalidCommandException;
+import bot.service.DeferredFileService;
+import bot.service.FileService;
+import bot.task.Task;
+import bot.task.TaskList;
+import bot.ui.ResponseMessage;
+import bot.util.CommandLine;
+import bot.util.Parser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a command to run many commands as one transaction.
+ * The commands are read from a script file with one command per line, or given
+ * directly through {@code Bot.executeBatch}. Every line is run against the task list
+ * and the task list is saved once at the end. If any line fails, the task list is
+ * rolled back to how it was before the batch and nothing is saved.
+ * The command format should be: "batch <script file path>"
+ * <p>
+ * Reading the script is only allowed locally, since the error of a failing line
+ * echoes the line back. Remote callers can run lines through {@code Bot.executeBatch}.
+ */
+public class BatchCommand extends Command {
+    public static final BatchCommand INSTANCE = new BatchCommand();
+
+    private BatchCommand() {}
+
+    /**
+     * Executes every command of the script file given in the command, then saves the
+     * task list once, see {@link #executeLines(List, TaskList, FileService, Appendable)}.
+     *
+     * @param commandLine the parsed user input, whose argument is the path of the script file
+     * @param taskList the task list the commands operate on
+     * @param fileService the file services for writing the task list once at the end
+     * @param out the output that the response is written to
+     * @return how the command ended
+     */
+    @Override
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
+        List<String> lines;
+        try {
+            lines = readScript(commandLine);
+        } catch (Exception e) {
+            return respondWithError(out, e.getMessage());
+        }
+        return executeLines(lines, taskList, fileService, out);
+    }
+
+    @Override
+    public boolean isLocalOnly() {
+        return true;
+    }
+
+    /**
+     * Executes every command of the batch, then saves the task list once.
+     * <p>
+     * The response of every line is written to the output as soon as the line has run.
+     * If a line fails or saving fails, the task list and the completion status of its
+     * tasks are restored, and the response ends at the failing line.
+     * </p>
+     *
+     * @param lines the raw command strings, one command per element
+     * @param taskList the task list the commands operate on
+     * @param fileService the file services for writing the task list once at the end
+     * @param out the output that the response is written to
+     * @return how the batch ended
+     * @throws IOException if the output cannot be written to
+     */
+    public Result executeLines(List<String> lines, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
+        // Keep a snapshot of the list and completion status to roll back to on failure
+        List<Task> tasksBefore = taskList.getTaskList();
+        boolean[] isDoneBefore = new boolean[tasksBefore.size()];
+        int taskIndex = 0;
+        for (Task task : tasksBefore) {
+            isDoneBefore[taskIndex++] = task.isDone();
+        }
+
+        DeferredFileService deferredFileService = new DeferredFileService(fileService);
+        int commandCount = runLines(lines, taskList, deferredFileService, out);
+        boolean isCommitted = false;
+        if (commandCount >= 0) {
+            try {
+                // Persist every change of the batch at once
+                deferredFileService.commit(taskList);
+                isCommitted = true;
+            } catch (IOException e) {
+                out.append(e.getMessage());
+            }
+        }
+
+        if (!isCommitted) {
+            deferredFileService.discard();
+            rollback(taskList, tasksBefore, isDoneBefore);
+            return respondWithError(out, ResponseMessage.getBatchFailureMessage());
+        }
+        return respond(out, ResponseMessage.getBatchSuccessMessage(commandCount));
+    }
+
+    /**
+     * Reads the command lines from the script file given in the command.
+     *
+     * @param commandLine The parsed user input.
+     * @return The lines of the script file.
+     * @throws InvalidCommandException If the command format is not right.
+     * @throws IOException If the script file cannot be read.
+     */
+    private static List<String> readScript(CommandLine commandLine) throws InvalidCommandException, IOException {
+        // Validate command format, re-prompt if incorrect command format
+        boolean isValidCommandInfo = commandLine.hasArgument() && !commandLine.getArgument().isBlank();
+        if (!isValidCommandInfo) {
+            throw new InvalidCommandException(
+                    "Oh no, command format is not right, let me give you a hint: "
+                            + "batch <Script File Path>");
+        }
+
+        return Files.readAllLines(Path.of(commandLine.getArgument().trim()));
+    }
+
+    /**
+     * Runs every non-blank line as a command, stopping at the first failing line.
+     * Every line that is run writes its response, prefixed by its line number, to the
+     * output, including the failing line.
+     *
+     * @param lines The command lines.
+     * @param taskList The task list the commands operate on.
+     * @param fileService The file service that holds back every save.
+     * @param out The output that the response of every line is written to.
+     * @return The number of commands run, or -1 if a line failed.
+     * @throws IOException If the output cannot be written to.
+     */
+    private static int runLines(List<String> lines, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
+        int commandCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            out.append("Line ").append(String.valueOf(i + 1)).append(": ");
+            CommandLine commandLine = Parser.parse(line);
+            Command command = commandLine.getCommand();
+            if (command instanceof ExitCommand || command instanceof BatchCommand) {
+                out.append("bye and batch cannot be used in a batch");
+                return -1;
+            }
+
+            if (command.execute(commandLine, taskList, fileService, out) == Result.FAILED) {
+                return -1;
+            }
+            out.append("\n");
+            commandCount++;
+        }
+        return commandCount;
+    }
+
+    /**
+     * Restores the task list and the completion status of its tasks.
+     *
+     * @param taskList The task list to be restored.
+     * @param tasks The tasks before the batch, in list order.
+     * @param isDone The completion status of each task before the batch.
+     */
+    private static void rollback(TaskList taskList, List<Task> tasks, boolean[] isDone) {
+        int taskIndex = 0;
+        for (Task task : tasks) {
+            if (isDone[taskIndex++]) {
+                task.markDone();
+            } else {
+                task.markNotDone();
+            }
+        }
+        taskList.restore(tasks);
+    }
+}
@@ -1,48 +1,166 @@
 package bot.command;
 
+import bot.exception.InvalidCommandException;
 import bot.service.FileService;
+import bot.task.Task;
 import bot.task.TaskList;
+import bot.util.CommandLine;
+import bot.util.IndexRanges;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Abstract base class for all commands in the bot application.
  * This class defines the common interface that all command classes must implement.
  * Each concrete command class should extend this class and provide specific
- * implementations for executing the command and determining if it should exit the application.
+ * implementations for executing the command.
+ * <p>
+ * Commands are stateless, so every command type has a single instance that is shared
+ * by every line and every thread. The parsed line is passed to
+ * {@link #execute(CommandLine, TaskList, FileService, Appendable)}, which writes the
+ * response to an output given by the caller and returns how the command ended, so
+ * callers can reuse the same buffer for every response.
  */
 public abstract class Command {
-    private String response;
+    /** Pattern of an argument that addresses a task, by position or by "#" and its ID */
+    protected static final String TASK_ARGUMENT_PATTERN = "#?\\d+";
+
+    /**
+     * Pattern of an argument that addresses many tasks: a comma-separated list of task
+     * arguments and ranges of positions such as "1,4,9-20", or "all", "done" or "undone"
+     */
+    protected static final String TASK_SELECTION_PATTERN =
+            "all|done|undone|(#?\\d+|\\d+\\s*-\\s*\\d+)(\\s*,\\s*(#?\\d+|\\d+\\s*-\\s*\\d+))*";
+
+    /** Prefix of an argument that addresses a task by its stable ID */
+    private static final String ID_PREFIX = "#";
+
+    /**
+     * How a command ended.
+     */
+    public enum Result {
+        /** The command succeeded, the output holds its response */
+        SUCCESS,
+        /** The command failed, e.g. because of an invalid format or index, the output holds the error message */
+        FAILED,
+        /** The command succeeded and the application should exit */
+        EXIT
+    }
 
     /**
-     * Executes the command with the given parameters.
+     * Executes the command for a parsed line and writes its response to the output.
      * This method should contain the specific logic for each command type.
      *
+     * @param commandLine the parsed user input
      * @param taskList the task list to operate on
      * @param fileService the file services for reading from and writing to storage
+     * @param out the output that the response or error message is written to
+     * @return how the command ended
+     * @throws IOException if the output cannot be written to
      */
-    public abstract void execute(TaskList taskList, FileService fileService);
+    public abstract Result execute(CommandLine commandLine, TaskList taskList, FileService fileService,
+            Appendable out) throws IOException;
 
     /**
-     * Determines whether this command should cause the application to exit.
+     * Determines whether this command only reads the task list, so that it can run
+     * at the same time as other read-only commands.
      *
-     * @return true if the application should exit after executing this command, false otherwise
+     * @return true if the command never changes the task list or the file, false otherwise
      */
-    public abstract boolean isExit();
+    public boolean isReadOnly() {
+        return false;
+    }
 
     /**
-     * Return the generated response message after task execution
+     * Determines whether this command reads files of the machine that it runs on, so
+     * that it must only be run for a local user and never for a client over the network.
      *
-     * @return The command response string message
+     * @return true if the command reads local files named by the user, false otherwise
      */
-    public String getResponse() {
-        return response;
+    public boolean isLocalOnly() {
+        return false;
     }
 
     /**
-     * Set the generated response message
+     * Writes the response of a successful command.
      *
+     * @param out The output that the response is written to
      * @param response The command response string message
+     * @return {@link Result#SUCCESS}
+     * @throws IOException if the output cannot be written to
      */
-    protected void setResponse(String response) {
-        this.response = response;
+    protected static Result respond(Appendable out, String response) throws IOException {
+        out.append(response);
+        return Result.SUCCESS;
+    }
+
+    /**
+     * Writes the error message of a failed command.
+     *
+     * @param out The output that the error message is written to
+     * @param message The error message
+     * @return {@link Result#FAILED}
+     * @throws IOException if the output cannot be written to
+     */
+    protected static Result respondWithError(Appendable out, String message) throws IOException {
+        out.append(message);
+        return Result.FAILED;
+    }
+
+    /**
+     * Resolves an argument matching {@link #TASK_ARGUMENT_PATTERN} to the position of a task.
+     * A plain number is the position in the list, and a number after "#" is the stable ID
+     * of the task, which stays the same when the list is sorted or other tasks are deleted.
+     *
+     * @param argument the task argument, e.g. "3" or "#17"
+     * @param taskList the task list holding the task
+     * @return the task index position in the task list, starting from 1
+     * @throws InvalidCommandException if no task has the given ID
+     */
+    protected static int parseTaskIndex(String argument, TaskList taskList) throws InvalidCommandException {
+        if (argument.startsWith(ID_PREFIX)) {
+            return taskList.getIndexById(Long.parseLong(argument.substring(ID_PREFIX.length())));
+        }
+        return Integer.parseInt(argument);
+    }
+
+    /**
+     * Resolves an argument matching {@link #TASK_SELECTION_PATTERN} to the positions of the tasks.
+     * "all", "done" and "undone" select by status in one pass over the list, while a list
+     * selects each position, range of positions and "#" task ID in it.
+     *
+     * @param argument the task selection, e.g. "1,4,9-20", "#3,#7" or "done"
+     * @param taskList the task list holding the tasks
+     * @return the task index positions in the task list, starting from 1
+     * @throws InvalidCommandException if a position is out of bound or no task has a given ID
+     */
+    protected static BitSet parseTaskSelection(String argument, TaskList taskList) throws InvalidCommandException {
+        BitSet indexes = new BitSet();
+        if (argument.equals("all") || argument.equals("done") || argument.equals("undone")) {
+            List<Task> tasks = taskList.getTaskList();
+            int index = 1; // Index numbering should start from 1 instead of 0
+            for (Task task : tasks) {
+                boolean isSelected = argument.equals("all") || task.isDone() == argument.equals("done");
+                indexes.set(index++, isSelected);
+            }
+            return indexes;
+        }
+
+        for (String item : argument.split(",")) {
+            String trimmedItem = item.trim();
+            if (trimmedItem.startsWith(ID_PREFIX)) {
+                indexes.set(parseTaskIndex(trimmedItem, taskList));
+                continue;
+            }
+
+            try {
+                IndexRanges.addRange(trimmedItem, taskList.getSize(), indexes);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidCommandException("Invalid task number");
+            }
+        }
+        return indexes;
     }
 }
@@ -2,36 +2,39 @@ package bot.command;
 
 import bot.service.FileService;
 import bot.task.TaskList;
+import bot.util.CommandLine;
+
+import java.io.IOException;
 
 /**
  * Represents a command to exit the application.
  * This command displays an exit message to the user and signals that the application
- * should terminate after execution.
+ * should terminate after execution. Pending writes are flushed first, so the
+ * application only exits once every change is saved.
  */
 public class ExitCommand extends Command {
-    private boolean isExecuted = false;
+    public static final ExitCommand INSTANCE = new ExitCommand();
 
-    public ExitCommand() {}
+    private ExitCommand() {}
 
     /**
-     * Executes the exit command by displaying an exit message to the user
-     * and marking the command as executed.
+     * Executes the exit command by flushing pending writes.
      *
+     * @param commandLine the parsed user input (not used in this command)
      * @param taskList the task list (not used in this command)
-     * @param fileService the file services (not used in this command)
-     */
-    @Override
-    public void execute(TaskList taskList, FileService fileService) {
-        isExecuted = true;
-    }
-
-    /**
-     * Determines if this command should exit the application.
-     *
-     * @return true if the command has been executed, false otherwise
+     * @param fileService the file services to flush before exiting
+     * @param out the output that the error message is written to if flushing fails
+     * @return {@link Result#EXIT} once every change is saved, or {@link Result#FAILED} otherwise
      */
     @Override
-    public boolean isExit() {
-        return isExecuted;
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
+        try {
+            // Make sure every change is on disk before the application exits
+            fileService.flush();
+            return Result.EXIT;
+        } catch (Exception e) {
+            return respondWithError(out, e.getMessage());
+        }
     }
 }
@@ -5,7 +5,9 @@ import bot.service.FileService;
 import bot.task.Task;
 import bot.task.TaskList;
 import bot.ui.ResponseMessage;
+import bot.util.CommandLine;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -13,52 +15,47 @@ import java.util.List;
  * This command searches the current task list for tasks whose names contain the provided keyword.
  */
 public class FindCommand extends Command {
-    private final String[] commandInfo;
+    public static final FindCommand INSTANCE = new FindCommand();
 
-    /**
-     * Constructs a {@code FindCommand} with the provided command information.
-     * The command information is expected to be an array where the first element is the
-     * command name ("find") and the second element is the search keyword.
-     *
-     * @param commandInfo The array containing the command name and the search keyword.
-     */
-    public FindCommand(String[] commandInfo) {
-        this.commandInfo = commandInfo;
-    }
+    private FindCommand() {}
 
     /**
      * Executes the find command.
      * This method validates the command format, searches for tasks matching the keyword,
      * and sets the response message to display the filtered list of tasks.
      *
+     * @param commandLine the parsed user input
      * @param taskList The {@link TaskList} to be searched.
      * @param fileService The {@link FileService} (not used in this command, but required by the parent class).
+     * @param out the output that the response is written to
+     * @return how the command ended
      */
     @Override
-    public void execute(TaskList taskList, FileService fileService) {
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
         try {
             // Validate command format, re-prompt if incorrect command format
-            boolean isValidCommandInfo = commandInfo.length == 2;
+            boolean isValidCommandInfo = commandLine.hasArgument();
             if (!isValidCommandInfo) {
                 throw new InvalidCommandException(
                         "Oh no, command format is not right, let me give you a hint: " +
                                 "find <Search Keyword>");
             }
 
-            String keyword = commandInfo[1];
+            String keyword = commandLine.getArgument();
 
             // Find all tasks that matches keyword
             List<Task> filteredList = taskList.searchTasksByName(keyword);
 
             // Set success message
-            super.setResponse(ResponseMessage.getSearchTaskListMessage(filteredList));
+            return respond(out, ResponseMessage.getSearchTaskListMessage(filteredList));
         } catch (Exception e) {
-            super.setResponse(e.getMessage());
+            return respondWithError(out, e.getMessage());
         }
     }
 
     @Override
-    public boolean isExit() {
-        return false;
+    public boolean isReadOnly() {
+        return true;
     }
 }
@@ -2,27 +2,36 @@ package bot.command;
 
 import bot.service.FileService;
 import bot.task.TaskList;
+import bot.util.CommandLine;
+
+import java.io.IOException;
 
 /**
  * Represents an invalid command that is executed when an unrecognized command is entered.
  * This command displays an error message to the user indicating that the command is not valid.
  */
 public class InvalidCommand extends Command {
-    public InvalidCommand() {}
+    public static final InvalidCommand INSTANCE = new InvalidCommand();
+
+    private InvalidCommand() {}
 
     /**
      * Executes the invalid command by displaying an error message to the user.
      *
+     * @param commandLine the parsed user input (not used in this command)
      * @param taskList the task list (not used in this command)
      * @param fileService the file services (not used in this command)
+     * @param out the output that the response is written to
+     * @return how the command ended
      */
     @Override
-    public void execute(TaskList taskList, FileService fileService) {
-        super.setResponse("I can't do this yet, I'm still learning. Please give me some time");
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
+        return respondWithError(out, "I can't do this yet, I'm still learning. Please give me some time");
     }
 
     @Override
-    public boolean isExit() {
-        return false;
+    public boolean isReadOnly() {
+        return true;
     }
 }
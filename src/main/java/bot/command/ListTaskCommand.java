@@ -1,29 +1,93 @@
 package bot.command;
 
+import bot.exception.InvalidCommandException;
 import bot.service.FileService;
+import bot.task.Task;
 import bot.task.TaskList;
 import bot.ui.ResponseMessage;
+import bot.util.CommandLine;
+
+import java.io.IOException;
+import java.util.List;
 
 /**
- * Represents a command to display the list of all tasks.
- * This command retrieves and displays all tasks currently in the task list.
+ * Represents a command to display the list of tasks, one page at a time.
+ * The command format should be: "list [page] [--page-size <size>]" or "list all".
+ * Without a page, the first page is shown, and "list all" shows every task at once.
+ * A page that is not the last one says so and tells the user how to see the rest.
+ * <p>
+ * The page is written to the output one task at a time, so a long page never has to
+ * be held in memory as a whole.
+ * </p>
  */
 public class ListTaskCommand extends Command {
-    public ListTaskCommand() {}
+    /** Number of tasks on a page unless a page size is given */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    private static final String PAGE_SIZE_OPTION = "--page-size";
+
+    /** Pattern of a page number or page size, short enough to never overflow an int */
+    private static final String NUMBER_PATTERN = "\\d{1,9}";
+
+    public static final ListTaskCommand INSTANCE = new ListTaskCommand();
+
+    private ListTaskCommand() {}
 
     /**
-     * Executes the list task command by displaying all tasks in the task list.
+     * Executes the list task command by displaying the requested page of the task list.
      *
+     * @param commandLine the parsed user input
      * @param taskList the task list containing tasks to be displayed
      * @param fileService the file services (not used in this command)
+     * @param out the output that the response is written to
+     * @return how the command ended
+     * @throws IOException if the output cannot be written to, or rendering is interrupted
      */
     @Override
-    public void execute(TaskList taskList, FileService fileService) {
-        super.setResponse(ResponseMessage.getTaskListMessage(taskList.getTaskList()));
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
+        try {
+            // Take the snapshot once, so the page and the page count agree
+            List<Task> tasks = taskList.getTaskList();
+
+            int page = 1;
+            int pageSize = DEFAULT_PAGE_SIZE;
+            String[] arguments = commandLine.hasArgument()
+                    ? commandLine.getArgument().trim().split("\\s+")
+                    : new String[0];
+            for (int i = 0; i < arguments.length; i++) {
+                if (arguments[i].equals("all") && arguments.length == 1) {
+                    pageSize = Math.max(tasks.size(), 1);
+                } else if (arguments[i].equals(PAGE_SIZE_OPTION) && i + 1 < arguments.length
+                        && arguments[i + 1].matches(NUMBER_PATTERN)) {
+                    pageSize = Integer.parseInt(arguments[++i]);
+                } else if (arguments[i].matches(NUMBER_PATTERN)) {
+                    page = Integer.parseInt(arguments[i]);
+                } else {
+                    throw new InvalidCommandException(
+                            "Oh no, command format is not right, let me give you a hint: " +
+                                    "list [Page] [--page-size <Size>] or list all");
+                }
+            }
+
+            // Validation for page number and size
+            boolean isValidPage = pageSize >= 1 && page >= 1
+                    && page <= ResponseMessage.getPageCount(tasks.size(), pageSize);
+            if (!isValidPage) {
+                throw new InvalidCommandException("Invalid page number");
+            }
+
+            // Written one task at a time, so a long list is never built as one string
+            ResponseMessage.writeTaskListPage(tasks, page, pageSize, out);
+            return Result.SUCCESS;
+        } catch (InvalidCommandException e) {
+            // Only bad arguments are answered, a failing output is the caller's to handle
+            return respondWithError(out, e.getMessage());
+        }
     }
 
     @Override
-    public boolean isExit() {
-        return false;
+    public boolean isReadOnly() {
+        return true;
     }
 }
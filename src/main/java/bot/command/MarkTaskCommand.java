@@ -5,63 +5,92 @@ import bot.exception.InvalidCommandException;
 import bot.task.TaskList;
 import bot.ui.ResponseMessage;
 import bot.task.Task;
+import bot.util.CommandLine;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Represents a command to mark a task as completed.
  * This command takes a task index and marks the corresponding task as done.
- * The command format should be: "mark <task index>"
+ * The command format should be: "mark <task index>" or "mark #<task ID>", or to
+ * change many tasks at once, a list such as "mark 1,4,9-20" or one of "mark all",
+ * "mark done" and "mark undone"
  */
 public class MarkTaskCommand extends Command {
-    private final String[] commandInfo;
+    public static final MarkTaskCommand INSTANCE = new MarkTaskCommand();
 
-    /**
-     * Constructs a MarkTaskCommand with the provided command information.
-     *
-     * @param commandInfo an array containing the command details where:
-     *                    - commandInfo[0] should be "mark"
-     *                    - commandInfo[1] should contain the task index as a positive integer
-     */
-    public MarkTaskCommand(String[] commandInfo) {
-        this.commandInfo = commandInfo;
-    }
+    private MarkTaskCommand() {}
 
     /**
      * Executes the mark task command by parsing the task index, validating the format,
      * marking the specified task as completed, and saving the updated task list to file.
      *
+     * @param commandLine the parsed user input
      * @param taskList the task list containing the task to be marked
      * @param fileService the file services for writing the updated task list to storage
+     * @param out the output that the response is written to
+     * @return how the command ended
      */
     @Override
-    public void execute(TaskList taskList, FileService fileService) {
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
         try {
             // Validate command format, re-prompt if incorrect command format
-            boolean isValidCommandInfo = commandInfo.length == 2 && commandInfo[1].matches("\\d+");
+            String argument = commandLine.getArgument();
+            boolean isValidCommandInfo = argument != null && argument.matches(TASK_SELECTION_PATTERN);
             if (!isValidCommandInfo) {
                 throw new InvalidCommandException(
                         "Oh no, command format is not right, let me give you a hint: " +
-                                "mark <Task Index>");
+                                "mark <Task Index or #Task ID>, " +
+                                "or many at once like mark 1,4,9-20 or mark done");
+            }
+
+            if (!argument.matches(TASK_ARGUMENT_PATTERN)) {
+                return executeBulk(argument, taskList, fileService, out);
             }
 
-            int index = Integer.parseInt(commandInfo[1]);
+            int index = parseTaskIndex(argument, taskList);
 
             // Mark task
             Task task = taskList.markTaskAsDone(index);
 
             assert task != null : "Task mark done should not be null";
 
-            // Write task list to file
-            fileService.writeToFile(taskList);
+            // Persist the change to file
+            fileService.saveMarkedTask(taskList, index);
 
             // Set confirmation message and new status as response
-            super.setResponse(ResponseMessage.getMarkTaskSuccessMessage(task));
+            return respond(out, ResponseMessage.getMarkTaskSuccessMessage(task));
         } catch (Exception e) {
-            super.setResponse(e.getMessage());
+            return respondWithError(out, e.getMessage());
         }
     }
 
-    @Override
-    public boolean isExit() {
-        return false;
+    /**
+     * Runs the command on every selected task at once, with a single pass over the task
+     * list and a single save, and responds with a summary of the marked tasks.
+     *
+     * @param argument the task selection
+     * @param taskList the task list containing the selected tasks
+     * @param fileService the file services for writing the updated task list to storage
+     * @param out the output that the response is written to
+     * @return how the command ended
+     * @throws InvalidCommandException if the selection is out of bound or no task has a given ID
+     * @throws IOException if the change cannot be saved
+     */
+    private Result executeBulk(String argument, TaskList taskList, FileService fileService, Appendable out)
+            throws InvalidCommandException, IOException {
+        BitSet indexes = parseTaskSelection(argument, taskList);
+
+        List<Task> tasks = taskList.markTasksAsDone(indexes);
+
+        // Persist the change to file once, there is nothing to save if no task is selected
+        if (!tasks.isEmpty()) {
+            fileService.saveMarkedTasks(taskList, indexes);
+        }
+
+        return respond(out, ResponseMessage.getMarkTasksSuccessMessage(tasks));
     }
 }
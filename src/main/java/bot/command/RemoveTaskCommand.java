@@ -5,62 +5,91 @@ import bot.exception.InvalidCommandException;
 import bot.task.TaskList;
 import bot.ui.ResponseMessage;
 import bot.task.Task;
+import bot.util.CommandLine;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Represents a command to remove a task from the task list.
  * This command takes a task index and removes the corresponding task from the list.
- * The command format should be: "delete <task index>"
+ * The command format should be: "delete <task index>" or "delete #<task ID>", or to
+ * change many tasks at once, a list such as "delete 1,4,9-20" or one of "delete all",
+ * "delete done" and "delete undone"
  */
 public class RemoveTaskCommand extends Command {
-    private final String[] commandInfo;
+    public static final RemoveTaskCommand INSTANCE = new RemoveTaskCommand();
 
-    /**
-     * Constructs a RemoveTaskCommand with the provided command information.
-     *
-     * @param commandInfo an array containing the command details where:
-     *                    - commandInfo[0] should be "delete"
-     *                    - commandInfo[1] should contain the task index as a positive integer
-     */
-    public RemoveTaskCommand(String[] commandInfo) {
-        this.commandInfo = commandInfo;
-    }
+    private RemoveTaskCommand() {}
 
     /**
      * Executes the remove task command by parsing the task index, validating the format,
      * removing the specified task from the task list, and saving the updated task list to file.
      *
+     * @param commandLine the parsed user input
      * @param taskList the task list from which the task will be removed
      * @param fileService the file services for writing the updated task list to storage
+     * @param out the output that the response is written to
+     * @return how the command ended
      */
     @Override
-    public void execute(TaskList taskList, FileService fileService) {
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
         try {
             // Validate command format, re-prompt if incorrect command format
-            boolean isValidCommandInfo = commandInfo.length == 2 && commandInfo[1].matches("\\d+");
+            String argument = commandLine.getArgument();
+            boolean isValidCommandInfo = argument != null && argument.matches(TASK_SELECTION_PATTERN);
             if (!isValidCommandInfo) {
                 throw new InvalidCommandException(
                         "Oh no, command format is not right, let me give you a hint: " +
-                                "delete <Task Index>");
+                                "delete <Task Index or #Task ID>, " +
+                                "or many at once like delete 1,4,9-20 or delete done");
+            }
+
+            if (!argument.matches(TASK_ARGUMENT_PATTERN)) {
+                return executeBulk(argument, taskList, fileService, out);
             }
 
-            int index = Integer.parseInt(commandInfo[1]);
+            int index = parseTaskIndex(argument, taskList);
 
             Task task = taskList.removeTask(index);
 
             assert task != null : "task should not be null";
 
-            // Write task list to file
-            fileService.writeToFile(taskList);
+            // Persist the change to file
+            fileService.saveRemovedTask(taskList, index);
 
             // Set confirmation message and list count as response
-            super.setResponse(ResponseMessage.getRemoveTaskSuccessMessage(task, taskList.getSize()));
+            return respond(out, ResponseMessage.getRemoveTaskSuccessMessage(task, taskList.getSize()));
         } catch (Exception e) {
-            super.setResponse(e.getMessage());
+            return respondWithError(out, e.getMessage());
         }
     }
 
-    @Override
-    public boolean isExit() {
-        return false;
+    /**
+     * Runs the command on every selected task at once, with a single pass over the task
+     * list and a single save, and responds with a summary of the removed tasks.
+     *
+     * @param argument the task selection
+     * @param taskList the task list containing the selected tasks
+     * @param fileService the file services for writing the updated task list to storage
+     * @param out the output that the response is written to
+     * @return how the command ended
+     * @throws InvalidCommandException if the selection is out of bound or no task has a given ID
+     * @throws IOException if the change cannot be saved
+     */
+    private Result executeBulk(String argument, TaskList taskList, FileService fileService, Appendable out)
+            throws InvalidCommandException, IOException {
+        BitSet indexes = parseTaskSelection(argument, taskList);
+
+        List<Task> tasks = taskList.removeTasks(indexes);
+
+        // Persist the change to file once, there is nothing to save if no task is selected
+        if (!tasks.isEmpty()) {
+            fileService.saveRemovedTasks(taskList, indexes);
+        }
+
+        return respond(out, ResponseMessage.getRemoveTasksSuccessMessage(tasks, taskList.getSize()));
     }
 }
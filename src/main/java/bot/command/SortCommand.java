@@ -4,6 +4,9 @@ import bot.exception.InvalidCommandException;
 import bot.service.FileService;
 import bot.task.TaskList;
 import bot.ui.ResponseMessage;
+import bot.util.CommandLine;
+
+import java.io.IOException;
 
 /**
  * Represents a command to sort tasks in the task list.
@@ -11,18 +14,9 @@ import bot.ui.ResponseMessage;
  * The command format should be: "sort name" or "sort date"
  */
 public class SortCommand extends Command {
-    private final String[] commandInfo;
+    public static final SortCommand INSTANCE = new SortCommand();
 
-    /**
-     * Constructs a SortCommand with the provided command information.
-     *
-     * @param commandInfo an array containing the command details where:
-     *                    - commandInfo[0] should be "sort"
-     *                    - commandInfo[1] should be either "name" or "date"
-     */
-    public SortCommand(String[] commandInfo) {
-        this.commandInfo = commandInfo;
-    }
+    private SortCommand() {}
 
     /**
      * Executes the sort command by validating the command format, sorting the task list
@@ -33,14 +27,18 @@ public class SortCommand extends Command {
      * message is set as the response.
      * </p>
      *
+     * @param commandLine the parsed user input
      * @param taskList the task list to be sorted
      * @param fileService the file service for writing the sorted task list to storage
+     * @param out the output that the response is written to
+     * @return how the command ended
      */
     @Override
-    public void execute(TaskList taskList, FileService fileService) {
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
         try {
             // Validate command format, re-prompt if incorrect command format
-            boolean isValidCommandInfo = commandInfo.length == 2;
+            boolean isValidCommandInfo = commandLine.hasArgument();
             if (!isValidCommandInfo) {
                 throw new InvalidCommandException(
                         """
@@ -49,7 +47,7 @@ public class SortCommand extends Command {
                                 sort date""");
             }
 
-            String sortType = commandInfo[1];
+            String sortType = commandLine.getArgument();
 
             // Sort task list based on sorting typing
             switch (sortType) {
@@ -62,18 +60,13 @@ public class SortCommand extends Command {
                             sort date""");
             }
 
-            // Write task list to file
-            fileService.writeToFile(taskList);
+            // Persist the change to file
+            fileService.saveSortedList(taskList, sortType);
 
             // Set success message
-            super.setResponse(ResponseMessage.getSortListMessage(taskList.getTaskList()));
+            return respond(out, ResponseMessage.getSortListMessage(taskList.getTaskList()));
         } catch (Exception e) {
-            super.setResponse(e.getMessage());
+            return respondWithError(out, e.getMessage());
         }
     }
-
-    @Override
-    public boolean isExit() {
-        return false;
-    }
 }
@@ -0,0 +1,38 @@
+package bot.command;
+
+import bot.service.FileService;
+import bot.task.TaskList;
+import bot.ui.ResponseMessage;
+import bot.util.CommandLine;
+
+import java.io.IOException;
+
+/**
+ * Represents a command to display command latency and persistence metrics.
+ * The command format should be: "stats"
+ */
+public class StatsCommand extends Command {
+    public static final StatsCommand INSTANCE = new StatsCommand();
+
+    private StatsCommand() {}
+
+    /**
+     * Executes the stats command by displaying the metrics collected so far.
+     *
+     * @param commandLine the parsed user input (not used in this command)
+     * @param taskList the task list (not used in this command)
+     * @param fileService the file services (not used in this command)
+     * @param out the output that the response is written to
+     * @return how the command ended
+     */
+    @Override
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
+        return respond(out, ResponseMessage.getStatsMessage());
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
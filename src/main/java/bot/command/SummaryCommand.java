@@ -0,0 +1,40 @@
+package bot.command;
+
+import bot.service.FileService;
+import bot.task.TaskList;
+import bot.ui.ResponseMessage;
+import bot.util.CommandLine;
+
+import java.io.IOException;
+
+/**
+ * Represents a command to display how many tasks there are of each type, how many are
+ * done, and how many are overdue or due today. The counts are kept by the task list, so
+ * the command takes the same time however many tasks there are.
+ * The command format should be: "summary"
+ */
+public class SummaryCommand extends Command {
+    public static final SummaryCommand INSTANCE = new SummaryCommand();
+
+    private SummaryCommand() {}
+
+    /**
+     * Executes the summary command by displaying the task counts for today.
+     *
+     * @param commandLine the parsed user input (not used in this command)
+     * @param taskList the task list to be summarized
+     * @param fileService the file services (not used in this command)
+     * @param out the output that the response is written to
+     * @return how the command ended
+     */
+    @Override
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
+        return respond(out, ResponseMessage.getSummaryMessage(taskList.getSummary()));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
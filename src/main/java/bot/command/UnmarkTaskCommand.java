@@ -5,63 +5,92 @@ import bot.exception.InvalidCommandException;
 import bot.task.TaskList;
 import bot.ui.ResponseMessage;
 import bot.task.Task;
+import bot.util.CommandLine;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Represents a command to unmark a task (mark it as not completed).
  * This command takes a task index and marks the corresponding task as not done.
- * The command format should be: "unmark <task index>"
+ * The command format should be: "unmark <task index>" or "unmark #<task ID>", or to
+ * change many tasks at once, a list such as "unmark 1,4,9-20" or one of "unmark all",
+ * "unmark done" and "unmark undone"
  */
 public class UnmarkTaskCommand extends Command {
-    private final String[] commandInfo;
+    public static final UnmarkTaskCommand INSTANCE = new UnmarkTaskCommand();
 
-    /**
-     * Constructs an UnmarkTaskCommand with the provided command information.
-     *
-     * @param commandInfo an array containing the command details where:
-     *                    - commandInfo[0] should be "unmark"
-     *                    - commandInfo[1] should contain the task index as a positive integer
-     */
-    public UnmarkTaskCommand(String[] commandInfo) {
-        this.commandInfo = commandInfo;
-    }
+    private UnmarkTaskCommand() {}
 
     /**
      * Executes the unmark task command by parsing the task index, validating the format,
      * marking the specified task as not completed, and saving the updated task list to file.
      *
+     * @param commandLine the parsed user input
      * @param taskList the task list containing the task to be unmarked
      * @param fileService the file services for writing the updated task list to storage
+     * @param out the output that the response is written to
+     * @return how the command ended
      */
     @Override
-    public void execute(TaskList taskList, FileService fileService) {
+    public Result execute(CommandLine commandLine, TaskList taskList, FileService fileService, Appendable out)
+            throws IOException {
         try {
             // Validate command format, re-prompt if incorrect command format
-            boolean isValidCommandInfo = commandInfo.length == 2 && commandInfo[1].matches("\\d+");
+            String argument = commandLine.getArgument();
+            boolean isValidCommandInfo = argument != null && argument.matches(TASK_SELECTION_PATTERN);
             if (!isValidCommandInfo) {
                 throw new InvalidCommandException(
                         "Oh no, command format is not right, let me give you a hint: " +
-                                "unmark <Task Index>");
+                                "unmark <Task Index or #Task ID>, " +
+                                "or many at once like unmark 1,4,9-20 or unmark done");
+            }
+
+            if (!argument.matches(TASK_ARGUMENT_PATTERN)) {
+                return executeBulk(argument, taskList, fileService, out);
             }
 
-            int index = Integer.parseInt(commandInfo[1]);
+            int index = parseTaskIndex(argument, taskList);
 
             // Unmark Task
             Task task = taskList.markTaskAsNotDone(index);
 
             assert task != null : "Task mark undone should not be null";
 
-            // Write task list to file
-            fileService.writeToFile(taskList);
+            // Persist the change to file
+            fileService.saveUnmarkedTask(taskList, index);
 
             // Set confirmation message and new status as response
-            super.setResponse(ResponseMessage.getUnmarkTaskSuccessMessage(task));
+            return respond(out, ResponseMessage.getUnmarkTaskSuccessMessage(task));
         } catch (Exception e) {
-            super.setResponse(e.getMessage());
+            return respondWithError(out, e.getMessage());
         }
     }
 
-    @Override
-    public boolean isExit() {
-        return false;
+    /**
+     * Runs the command on every selected task at once, with a single pass over the task
+     * list and a single save, and responds with a summary of the unmarked tasks.
+     *
+     * @param argument the task selection
+     * @param taskList the task list containing the selected tasks
+     * @param fileService the file services for writing the updated task list to storage
+     * @param out the output that the response is written to
+     * @return how the command ended
+     * @throws InvalidCommandException if the selection is out of bound or no task has a given ID
+     * @throws IOException if the change cannot be saved
+     */
+    private Result executeBulk(String argument, TaskList taskList, FileService fileService, Appendable out)
+            throws InvalidCommandException, IOException {
+        BitSet indexes = parseTaskSelection(argument, taskList);
+
+        List<Task> tasks = taskList.markTasksAsNotDone(indexes);
+
+        // Persist the change to file once, there is nothing to save if no task is selected
+        if (!tasks.isEmpty()) {
+            fileService.saveUnmarkedTasks(taskList, indexes);
+        }
+
+        return respond(out, ResponseMessage.getUnmarkTasksSuccessMessage(tasks));
     }
 }
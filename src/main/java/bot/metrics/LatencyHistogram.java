@@ -0,0 +1,84 @@
+package bot.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free latency histogram with power-of-two nanosecond buckets.
+ * <p>
+ * Recording a value is a few atomic increments, so the histogram can stay enabled
+ * on every command. Percentiles are approximate: they report the upper bound of the
+ * bucket the percentile falls in, which is within a factor of two of the true value.
+ */
+public class LatencyHistogram {
+    private static final int BUCKET_COUNT = 64;
+
+    /** Bucket i counts values in [2^(i-1), 2^i), bucket 0 counts zero */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a single latency.
+     *
+     * @param nanos The latency in nanoseconds, negative values are recorded as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(BUCKET_COUNT - Long.numberOfLeadingZeros(value));
+        count.incrementAndGet();
+        totalNanos.addAndGet(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return The mean latency in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMeanNanos() {
+        long recordedCount = count.get();
+        return recordedCount == 0 ? 0 : totalNanos.get() / recordedCount;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile.
+     *
+     * @param percentile The percentile between 0 and 100.
+     * @return The upper bound of the bucket holding the percentile in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        assert percentile >= 0 && percentile <= 100 : "Percentile should be between 0 and 100";
+
+        long recordedCount = count.get();
+        if (recordedCount == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(recordedCount * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank && seen > 0) {
+                return i == 0 ? 0 : Math.min(maxNanos.get(), (1L << i) - 1);
+            }
+        }
+        return maxNanos.get();
+    }
+}
@@ -0,0 +1,157 @@
+package bot.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide metrics of command processing, always enabled.
+ * <p>
+ * Every command records its latency per {@link Phase}, keyed by the command type.
+ * {@code Bot} times parsing and the whole execution. Persistence and rendering happen
+ * inside a command's execution, so {@code FileService} and {@code ResponseMessage}
+ * report their time to a per-thread accumulator instead, which {@code Bot} takes off
+ * the execution time once the command finishes.
+ * <p>
+ * The metrics are shown by the "stats" command and exposed over JMX as
+ * {@value #OBJECT_NAME}.
+ */
+public class Metrics {
+    /** JMX object name of the metrics MBean */
+    public static final String OBJECT_NAME = "bot:type=Metrics";
+
+    /**
+     * Phases of processing a command.
+     */
+    public enum Phase {
+        /** Parsing the user input into a command */
+        PARSE,
+        /** Running the command, excluding persistence and rendering */
+        EXECUTE,
+        /** Writing changes to the task file */
+        PERSIST,
+        /** Rendering task lists into the response */
+        RENDER
+    }
+
+    private static final Map<String, Map<Phase, LatencyHistogram>> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private static final LongAdder BYTES_WRITTEN = new LongAdder();
+
+    /** Persist and render nanoseconds spent by the command running on this thread */
+    private static final ThreadLocal<long[]> NESTED_NANOS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private static volatile int taskListSize;
+
+    /**
+     * Records the latency of a phase of a command.
+     *
+     * @param commandType The command type, e.g. "AddTodoCommand".
+     * @param phase The phase that was timed.
+     * @param nanos The latency in nanoseconds.
+     */
+    public static void record(String commandType, Phase phase, long nanos) {
+        HISTOGRAMS.computeIfAbsent(commandType, Metrics::createHistograms).get(phase).record(nanos);
+    }
+
+    /**
+     * Records a write to the task file by the command running on this thread.
+     *
+     * @param nanos The time spent writing in nanoseconds.
+     * @param bytes The number of bytes written.
+     */
+    public static void recordPersist(long nanos, long bytes) {
+        NESTED_NANOS.get()[0] += nanos;
+        BYTES_WRITTEN.add(bytes);
+    }
+
+    /**
+     * Records bytes written outside of a command, e.g. by a background compaction.
+     *
+     * @param bytes The number of bytes written.
+     */
+    public static void recordBytesWritten(long bytes) {
+        BYTES_WRITTEN.add(bytes);
+    }
+
+    /**
+     * Records time spent rendering a response by the command running on this thread.
+     *
+     * @param nanos The time spent rendering in nanoseconds.
+     */
+    public static void recordRender(long nanos) {
+        NESTED_NANOS.get()[1] += nanos;
+    }
+
+    /**
+     * Records a finished command execution, splitting off the persist and render time
+     * reported on this thread since the last call.
+     *
+     * @param commandType The command type, e.g. "AddTodoCommand".
+     * @param executeNanos The total execution time in nanoseconds.
+     */
+    public static void recordExecution(String commandType, long executeNanos) {
+        long[] nestedNanos = NESTED_NANOS.get();
+        long persistNanos = nestedNanos[0];
+        long renderNanos = nestedNanos[1];
+        nestedNanos[0] = 0;
+        nestedNanos[1] = 0;
+
+        Map<Phase, LatencyHistogram> histograms = HISTOGRAMS.computeIfAbsent(commandType, Metrics::createHistograms);
+        histograms.get(Phase.EXECUTE).record(executeNanos - persistNanos - renderNanos);
+        histograms.get(Phase.PERSIST).record(persistNanos);
+        histograms.get(Phase.RENDER).record(renderNanos);
+    }
+
+    public static void setTaskListSize(int size) {
+        taskListSize = size;
+    }
+
+    public static int getTaskListSize() {
+        return taskListSize;
+    }
+
+    public static long getBytesWritten() {
+        return BYTES_WRITTEN.sum();
+    }
+
+    /**
+     * Returns the histograms of every command type seen so far.
+     *
+     * @return The histograms by phase, keyed and sorted by command type.
+     */
+    public static Map<String, Map<Phase, LatencyHistogram>> getHistograms() {
+        return new TreeMap<>(HISTOGRAMS);
+    }
+
+    /**
+     * Registers the metrics MBean with the platform MBean server, once per process.
+     *
+     * @throws IllegalStateException If the MBean cannot be registered.
+     */
+    public static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(new MetricsMXBeanImpl(), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered by another bot in this process
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register metrics MBean", e);
+        }
+    }
+
+    private static Map<Phase, LatencyHistogram> createHistograms(String commandType) {
+        Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+        return histograms;
+    }
+}
@@ -0,0 +1,22 @@
+package bot.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link Metrics}.
+ * <p>
+ * Latency maps are keyed by {@code "<command type>.<phase>"}, e.g. {@code "AddTodoCommand.PERSIST"}.
+ */
+public interface MetricsMXBean {
+    int getTaskListSize();
+
+    long getBytesWritten();
+
+    Map<String, Long> getCommandCounts();
+
+    Map<String, Long> getMeanLatencyMicros();
+
+    Map<String, Long> getP99LatencyMicros();
+
+    Map<String, Long> getMaxLatencyMicros();
+}
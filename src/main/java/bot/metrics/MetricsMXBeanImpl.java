@@ -0,0 +1,53 @@
+package bot.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exposes the process-wide {@link Metrics} through {@link MetricsMXBean}.
+ */
+class MetricsMXBeanImpl implements MetricsMXBean {
+    private static final long NANOS_PER_MICRO = 1000;
+
+    @Override
+    public int getTaskListSize() {
+        return Metrics.getTaskListSize();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return Metrics.getBytesWritten();
+    }
+
+    @Override
+    public Map<String, Long> getCommandCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        Metrics.getHistograms().forEach((commandType, histograms) ->
+                counts.put(commandType, histograms.get(Metrics.Phase.EXECUTE).getCount()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getMeanLatencyMicros() {
+        return collectLatencies(LatencyHistogram::getMeanNanos);
+    }
+
+    @Override
+    public Map<String, Long> getP99LatencyMicros() {
+        return collectLatencies(histogram -> histogram.getPercentileNanos(99));
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencyMicros() {
+        return collectLatencies(LatencyHistogram::getMaxNanos);
+    }
+
+    private static Map<String, Long> collectLatencies(ToLongFunction<LatencyHistogram> statistic) {
+        Map<String, Long> latencies = new TreeMap<>();
+        Metrics.getHistograms().forEach((commandType, histograms) ->
+                histograms.forEach((phase, histogram) ->
+                        latencies.put(commandType + "." + phase, statistic.applyAsLong(histogram) / NANOS_PER_MICRO)));
+        return latencies;
+    }
+}
@@ -0,0 +1,17 @@
+package bot.reminder;
+
+import bot.task.Task;
+
+/**
+ * Receives the reminders of a {@link ReminderScheduler}, e.g. to show them to the user.
+ */
+@FunctionalInterface
+public interface ReminderListener {
+    /**
+     * Called when a deadline or event is near. It is called on the thread that advances
+     * the scheduler, so user interfaces should hand the reminder over to their own thread.
+     *
+     * @param task The deadline or event task that is near, which is not done.
+     */
+    void onReminder(Task task);
+}
@@ -0,0 +1,219 @@
+package bot.reminder;
+
+import bot.task.Deadline;
+import bot.task.Event;
+import bot.task.Task;
+import bot.task.TaskListListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reminds listeners of deadlines and events a while before they are due.
+ * <p>
+ * A deadline task is due at its deadline and an event task at its start time. Pending
+ * tasks wait in a {@link TimingWheel} that ticks once a minute, the precision of task
+ * dates, so scheduling, cancelling and firing a reminder take O(1) time however many
+ * reminders are pending, and nothing ever walks the task list. Added to a task list as
+ * a {@link TaskListListener}, the scheduler follows every add, remove and mark: tasks
+ * marked as done are cancelled and tasks marked as not done again are rescheduled.
+ * <p>
+ * Tasks that are already due when they are scheduled are never reminded of, so loading
+ * old tasks does not flood the user. A task whose reminder time has passed but that is
+ * not due yet is reminded of on the next tick.
+ * <p>
+ * {@link #start()} advances the scheduler every minute on a daemon thread. Tests can
+ * instead call {@link #advance()} with a clock of their own.
+ */
+public class ReminderScheduler implements TaskListListener {
+    /** How long before a task is due that it is reminded of by default */
+    public static final Duration DEFAULT_LEAD_TIME = Duration.ofHours(1);
+
+    private static final long MILLIS_PER_TICK = TimeUnit.MINUTES.toMillis(1);
+
+    private final Duration leadTime;
+
+    private final Clock clock;
+
+    private final List<ReminderListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Guarded by this scheduler, like the pending reminders */
+    private final TimingWheel<Task> wheel;
+
+    /** Pending reminder of each task, so that it can be cancelled */
+    private final Map<Task, TimingWheel.Timeout<Task>> timeouts = new IdentityHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Constructs a ReminderScheduler without any reminder.
+     *
+     * @param leadTime How long before a task is due that it is reminded of.
+     * @param clock The clock that tells the current time, in the time zone of task dates.
+     */
+    public ReminderScheduler(Duration leadTime, Clock clock) {
+        this.leadTime = leadTime;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(toTick(LocalDateTime.now(clock)));
+    }
+
+    /**
+     * Adds a listener that is called with every later reminder.
+     *
+     * @param listener The listener to be added.
+     */
+    public void addListener(ReminderListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener, so that it is not called with any later reminder.
+     *
+     * @param listener The listener to be removed.
+     */
+    public void removeListener(ReminderListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Schedules the reminder of a task, replacing any reminder it already has. Tasks
+     * without a date, tasks that are done and tasks that are already due are not scheduled.
+     *
+     * @param task The task to be reminded of.
+     */
+    public synchronized void schedule(Task task) {
+        cancel(task);
+
+        LocalDateTime dueTime = getDueTime(task);
+        if (task.isDone() || dueTime == null || !dueTime.isAfter(LocalDateTime.now(clock))) {
+            return;
+        }
+        timeouts.put(task, wheel.schedule(task, toTick(dueTime.minus(leadTime))));
+    }
+
+    /**
+     * Cancels the reminder of a task, if it has one.
+     *
+     * @param task The task that should not be reminded of.
+     */
+    public synchronized void cancel(Task task) {
+        TimingWheel.Timeout<Task> timeout = timeouts.remove(task);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        schedule(task);
+    }
+
+    @Override
+    public void onTaskRemoved(Task task) {
+        cancel(task);
+    }
+
+    @Override
+    public void onTaskStatusChanged(Task task) {
+        schedule(task);
+    }
+
+    /**
+     * Fires every reminder that is due by the current time of the clock, in the order
+     * they are due. Listeners are called after the reminders are taken off the wheel,
+     * so they may schedule or cancel reminders themselves.
+     *
+     * @return The number of reminders fired.
+     */
+    public int advance() {
+        List<Task> dueTasks = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(toTick(LocalDateTime.now(clock)), task -> {
+                timeouts.remove(task);
+                dueTasks.add(task);
+            });
+        }
+
+        for (Task task : dueTasks) {
+            for (ReminderListener listener : listeners) {
+                try {
+                    listener.onReminder(task);
+                } catch (RuntimeException e) {
+                    // A failing listener should neither stop the others nor the ticks
+                    e.printStackTrace();
+                }
+            }
+        }
+        return dueTasks.size();
+    }
+
+    /**
+     * Returns the number of reminders that have not fired yet.
+     *
+     * @return The number of pending reminders.
+     */
+    public synchronized int getPendingCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Starts advancing the scheduler at the start of every minute on a daemon thread.
+     * Starting a scheduler that is already started does nothing.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long initialDelay = MILLIS_PER_TICK - clock.millis() % MILLIS_PER_TICK;
+        executor.scheduleAtFixedRate(this::advance, initialDelay, MILLIS_PER_TICK, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops advancing the scheduler. Pending reminders stay scheduled.
+     */
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Returns when a task is due: the deadline of a deadline task or the start of an event.
+     *
+     * @param task The task.
+     * @return The due time, or null if the task has none.
+     */
+    static LocalDateTime getDueTime(Task task) {
+        if (task instanceof Deadline deadline) {
+            return deadline.getDeadline();
+        } else if (task instanceof Event event) {
+            return event.getStartTime();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the minute since the epoch that a local date time falls in, which is the
+     * tick of the timing wheel.
+     */
+    private static long toTick(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), TimeUnit.MINUTES.toSeconds(1));
+    }
+}
@@ -0,0 +1,289 @@
+package bot.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel that holds items until a deadline, counted in ticks.
+ * <p>
+ * The wheel has {@value #LEVEL_COUNT} levels of {@value #SLOTS_PER_LEVEL} slots. Each
+ * level counts ticks {@value #SLOTS_PER_LEVEL} times coarser than the one below it, so
+ * together they cover 2^36 ticks ahead of the current tick. An item is filed in the
+ * level of the highest digit, in base {@value #SLOTS_PER_LEVEL}, in which its deadline
+ * differs from the current tick, and in the slot of that digit. When the current tick
+ * reaches the start of a coarse slot, its items are filed again in finer levels, so an
+ * item moves at most once per level before it expires.
+ * <p>
+ * Scheduling and cancelling take O(1) time, since every slot is a doubly linked list.
+ * The wheel itself is a fixed number of slots, so the memory used grows only with the
+ * number of pending items, by one small node each. Items further ahead than the wheel
+ * covers wait in an overflow list that is filed again each time the top level turns.
+ * Advancing jumps straight to the next tick whose slot holds items, so a stretch of
+ * empty ticks costs no more than a single tick.
+ * <p>
+ * A TimingWheel is not thread-safe.
+ *
+ * @param <T> The type of the items.
+ */
+class TimingWheel<T> {
+    static final int SLOT_BITS = 6;
+
+    static final int SLOTS_PER_LEVEL = 1 << SLOT_BITS;
+
+    static final int LEVEL_COUNT = 6;
+
+    private static final int SLOT_MASK = SLOTS_PER_LEVEL - 1;
+
+    /** Head of the list of every slot, level by level */
+    private final Timeout<T>[] slots;
+
+    /** Head of the list of items further ahead than the wheel covers */
+    private final Timeout<T> overflow = new Timeout<>(null, 0);
+
+    /** Head of the list of items whose deadline had already passed when they were filed */
+    private final Timeout<T> expired = new Timeout<>(null, 0);
+
+    private long currentTick;
+
+    private int size = 0;
+
+    /**
+     * Constructs an empty TimingWheel.
+     *
+     * @param currentTick The current tick, items with a deadline up to it expire on the next advance.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TimingWheel(long currentTick) {
+        this.currentTick = currentTick;
+        slots = new Timeout[LEVEL_COUNT * SLOTS_PER_LEVEL];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Timeout<>(null, 0);
+        }
+    }
+
+    /**
+     * Adds an item that expires once the current tick reaches its deadline.
+     *
+     * @param item The item to be held.
+     * @param deadline The tick that the item expires at.
+     * @return The pending item, which can be cancelled.
+     */
+    Timeout<T> schedule(T item, long deadline) {
+        Timeout<T> timeout = new Timeout<>(item, deadline);
+        file(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Removes a pending item so that it never expires. Cancelling an item that already
+     * expired or was cancelled does nothing.
+     *
+     * @param timeout The pending item.
+     */
+    void cancel(Timeout<T> timeout) {
+        if (timeout.isPending()) {
+            timeout.unlink();
+            size--;
+        }
+    }
+
+    /**
+     * Moves the current tick forward and expires every item whose deadline is reached,
+     * in the order of their deadlines.
+     *
+     * @param tick The new current tick. A tick before the current one only expires the
+     *             items whose deadline had already passed when they were filed.
+     * @param onExpired Called with every expired item.
+     */
+    void advanceTo(long tick, Consumer<T> onExpired) {
+        expire(expired, onExpired);
+        while (currentTick < tick) {
+            long nextTick = findNextBusyTick();
+            if (nextTick > tick) {
+                currentTick = tick; // Nothing to expire or move on the way
+                break;
+            }
+
+            // Every tick skipped would only have found empty slots
+            currentTick = nextTick;
+            cascade();
+            expire(slots[(int) currentTick & SLOT_MASK], onExpired);
+            expire(expired, onExpired);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the first tick after the current one at which a slot holding items expires
+     * or is filed again. In every level, only the slots after the digit of the current
+     * tick can hold items, since the slot of the digit was emptied when the tick reached it.
+     *
+     * @return The next tick that has work to do, or {@link Long#MAX_VALUE} if the wheel is empty.
+     */
+    private long findNextBusyTick() {
+        long nextTick = Long.MAX_VALUE;
+        for (int level = 0; level < LEVEL_COUNT; level++) {
+            int shift = level * SLOT_BITS;
+            int digit = (int) (currentTick >>> shift) & SLOT_MASK;
+            for (int slot = digit + 1; slot < SLOTS_PER_LEVEL; slot++) {
+                if (!slots[level * SLOTS_PER_LEVEL + slot].isEmpty()) {
+                    long turnStart = currentTick >>> (shift + SLOT_BITS) << (shift + SLOT_BITS);
+                    nextTick = Math.min(nextTick, turnStart + ((long) slot << shift));
+                    break;
+                }
+            }
+        }
+
+        if (!overflow.isEmpty()) {
+            int wheelBits = LEVEL_COUNT * SLOT_BITS;
+            nextTick = Math.min(nextTick, ((currentTick >>> wheelBits) + 1) << wheelBits);
+        }
+        return nextTick;
+    }
+
+    /**
+     * Files the items of every coarse slot that starts at the current tick again in finer
+     * levels, from the coarsest level down, so that items move down one level at a time.
+     */
+    private void cascade() {
+        int level = 1;
+        while (level < LEVEL_COUNT && (currentTick & ((1L << (level * SLOT_BITS)) - 1)) == 0) {
+            level++;
+        }
+
+        if (level == LEVEL_COUNT && (currentTick & ((1L << (LEVEL_COUNT * SLOT_BITS)) - 1)) == 0) {
+            refile(overflow);
+        }
+        for (int coarseLevel = level - 1; coarseLevel >= 1; coarseLevel--) {
+            int slot = (int) (currentTick >>> (coarseLevel * SLOT_BITS)) & SLOT_MASK;
+            refile(slots[coarseLevel * SLOTS_PER_LEVEL + slot]);
+        }
+    }
+
+    /**
+     * Adds a pending item to the list of the slot for its deadline.
+     */
+    private void file(Timeout<T> timeout) {
+        long deadline = timeout.deadline;
+        if (deadline <= currentTick) {
+            expired.linkBefore(timeout);
+            return;
+        }
+
+        int highestDifferentBit = 63 - Long.numberOfLeadingZeros(deadline ^ currentTick);
+        int level = highestDifferentBit / SLOT_BITS;
+        if (level >= LEVEL_COUNT) {
+            overflow.linkBefore(timeout);
+            return;
+        }
+
+        int slot = (int) (deadline >>> (level * SLOT_BITS)) & SLOT_MASK;
+        slots[level * SLOTS_PER_LEVEL + slot].linkBefore(timeout);
+    }
+
+    /**
+     * Files every item of a list again for the current tick.
+     */
+    private void refile(Timeout<T> head) {
+        Timeout<T> timeout = head.detachAll();
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            file(timeout);
+            timeout = next;
+        }
+    }
+
+    /**
+     * Expires every item of a list, unlinking each one before it is handed out.
+     */
+    private void expire(Timeout<T> head, Consumer<T> onExpired) {
+        while (head.next != head) {
+            Timeout<T> timeout = head.next;
+            timeout.unlink();
+            size--;
+            onExpired.accept(timeout.item);
+        }
+    }
+
+    /**
+     * An item waiting in the wheel, and a node of the list of its slot. The head of each
+     * list is a node without an item, and an empty list is a head linked to itself.
+     *
+     * @param <T> The type of the item.
+     */
+    static final class Timeout<T> {
+        private final T item;
+
+        private final long deadline;
+
+        /** Neighbours in the list of the slot, null once the item expired or was cancelled */
+        private Timeout<T> prev = this;
+
+        private Timeout<T> next = this;
+
+        private Timeout(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+
+        T getItem() {
+            return item;
+        }
+
+        long getDeadline() {
+            return deadline;
+        }
+
+        boolean isPending() {
+            return next != null;
+        }
+
+        /**
+         * Returns whether the list that this node is the head of is empty.
+         */
+        private boolean isEmpty() {
+            return next == this;
+        }
+
+        /**
+         * Links a node at the end of the list that this node is the head of.
+         */
+        private void linkBefore(Timeout<T> timeout) {
+            timeout.prev = prev;
+            timeout.next = this;
+            prev.next = timeout;
+            prev = timeout;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+
+        /**
+         * Empties the list that this node is the head of.
+         *
+         * @return The first node of the list, whose last node links to null, or null if the list is empty.
+         */
+        private Timeout<T> detachAll() {
+            if (isEmpty()) {
+                return null;
+            }
+
+            Timeout<T> first = next;
+            prev.next = null;
+            prev = this;
+            next = this;
+            return first;
+        }
+    }
+}
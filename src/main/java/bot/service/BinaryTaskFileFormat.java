@@ -0,0 +1,186 @@
+package bot.service;
+
+import bot.task.Deadline;
+import bot.task.Event;
+import bot.task.Task;
+import bot.task.Todo;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compact, versioned binary format that avoids splitting strings and parsing
+ * dates when loading.
+ * <p>
+ * The file starts with the magic bytes {@code "LOVB"}, a version byte and the task
+ * count as an int. Each task is then stored as:
+ * <ul>
+ *     <li>a type byte: {@code 'T'}, {@code 'D'} or {@code 'E'}</li>
+ *     <li>a flags byte, where bit 0 is set if the task is done</li>
+ *     <li>the task name as an int byte length followed by its UTF-8 bytes</li>
+ *     <li>for a Deadline, the deadline as a long of minutes since the epoch</li>
+ *     <li>for an Event, the start and end time as longs of minutes since the epoch</li>
+ * </ul>
+ * All numbers are big-endian. Date times are stored in UTC without a zone, the same
+ * way {@link LocalDateTime} holds them.
+ */
+public class BinaryTaskFileFormat implements TaskFileFormat {
+    /** Current version of the binary format */
+    public static final byte VERSION = 1;
+
+    private static final byte[] MAGIC = {'L', 'O', 'V', 'B'};
+
+    private static final byte TODO_TYPE = 'T';
+    private static final byte DEADLINE_TYPE = 'D';
+    private static final byte EVENT_TYPE = 'E';
+
+    private static final byte DONE_FLAG = 1;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    @Override
+    public long write(Path path, List<Task> tasks) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(tasks.size());
+
+            for (Task task : tasks) {
+                writeTask(out, task);
+            }
+
+            out.flush();
+            return out.size();
+        }
+    }
+
+    @Override
+    public List<Task> read(Path path) throws IOException, IllegalArgumentException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+
+        // An empty file is an empty task list, e.g. a file that was just created
+        if (!buffer.hasRemaining()) {
+            return new ArrayList<>();
+        }
+
+        try {
+            readHeader(buffer);
+
+            int taskCount = buffer.getInt();
+            if (taskCount < 0) {
+                throw new IllegalArgumentException("Invalid task count in binary file: " + taskCount);
+            }
+
+            List<Task> tasks = new ArrayList<>(taskCount);
+            for (int i = 0; i < taskCount; i++) {
+                tasks.add(readTask(buffer));
+            }
+            return tasks;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Binary task file is truncated: " + path, e);
+        }
+    }
+
+    /**
+     * Writes a single task record.
+     *
+     * @param out The stream to write to.
+     * @param task The task to be written.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    private static void writeTask(DataOutputStream out, Task task) throws IOException {
+        byte type;
+        if (task instanceof Todo) {
+            type = TODO_TYPE;
+        } else if (task instanceof Deadline) {
+            type = DEADLINE_TYPE;
+        } else if (task instanceof Event) {
+            type = EVENT_TYPE;
+        } else {
+            throw new IllegalArgumentException("Invalid task type");
+        }
+
+        out.writeByte(type);
+        out.writeByte(task.isDone() ? DONE_FLAG : 0);
+
+        byte[] name = task.getName().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(name.length);
+        out.write(name);
+
+        if (task instanceof Deadline deadline) {
+            out.writeLong(toEpochMinute(deadline.getDeadline()));
+        } else if (task instanceof Event event) {
+            out.writeLong(toEpochMinute(event.getStartTime()));
+            out.writeLong(toEpochMinute(event.getEndTime()));
+        }
+    }
+
+    /**
+     * Reads and validates the magic bytes and version.
+     *
+     * @param buffer The buffer positioned at the start of the file.
+     * @throws IllegalArgumentException If the file is not in a supported version of this format.
+     */
+    private static void readHeader(ByteBuffer buffer) throws IllegalArgumentException {
+        for (byte expected : MAGIC) {
+            if (buffer.get() != expected) {
+                throw new IllegalArgumentException("Not a binary task file");
+            }
+        }
+
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary task file version: " + version);
+        }
+    }
+
+    /**
+     * Reads a single task record.
+     *
+     * @param buffer The buffer positioned at the start of the record.
+     * @return The task stored in the record.
+     * @throws IllegalArgumentException If the record is malformed.
+     */
+    private static Task readTask(ByteBuffer buffer) throws IllegalArgumentException {
+        byte type = buffer.get();
+        boolean isDone = (buffer.get() & DONE_FLAG) != 0;
+
+        int nameLength = buffer.getInt();
+        if (nameLength < 0) {
+            throw new IllegalArgumentException("Invalid task name length in binary file: " + nameLength);
+        } else if (nameLength > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String name = new String(buffer.array(), buffer.position(), nameLength, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + nameLength);
+
+        return switch (type) {
+        case TODO_TYPE -> new Todo(name, isDone);
+        case DEADLINE_TYPE -> new Deadline(name, fromEpochMinute(buffer.getLong()), isDone);
+        case EVENT_TYPE -> {
+            LocalDateTime startTime = fromEpochMinute(buffer.getLong());
+            LocalDateTime endTime = fromEpochMinute(buffer.getLong());
+            yield new Event(name, startTime, endTime, isDone);
+        }
+        default -> throw new IllegalArgumentException("Invalid task type in binary file: " + type);
+        };
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    private static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,67 @@
+package bot.service;
+
+import bot.task.Task;
+import bot.task.TaskList;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A {@link FileService} that holds back every save until {@link #commit(TaskList)},
+ * so that a batch of commands is persisted with a single write.
+ * <p>
+ * Saves only mark the task list as changed. Committing writes the whole task list
+ * once through the wrapped file service, and discarding forgets the changes.
+ */
+public class DeferredFileService extends FileService {
+    private final FileService fileService;
+
+    private boolean isChanged = false;
+
+    /**
+     * Constructs a {@code DeferredFileService} that commits through the given file service.
+     *
+     * @param fileService The file service that the task list is written with on commit.
+     */
+    public DeferredFileService(FileService fileService) {
+        super(fileService.path.toString(), fileService.format);
+        this.fileService = fileService;
+    }
+
+    /**
+     * Marks the task list as changed without writing it.
+     *
+     * @param taskList The list of {@code bot.task.Task} objects to be written on commit.
+     */
+    @Override
+    public void writeToFile(TaskList taskList) {
+        isChanged = true;
+    }
+
+    @Override
+    public List<Task> readFromFile() throws IOException, IllegalArgumentException {
+        return fileService.readFromFile();
+    }
+
+    /**
+     * Writes the task list once if any save was held back since the last commit.
+     *
+     * @param taskList The task list after every change is applied.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    public void commit(TaskList taskList) throws IOException {
+        if (!isChanged) {
+            return;
+        }
+
+        fileService.writeToFile(taskList);
+        isChanged = false;
+    }
+
+    /**
+     * Forgets every save held back since the last commit, e.g. after a rollback.
+     */
+    public void discard() {
+        isChanged = false;
+    }
+}
@@ -1,5 +1,6 @@
 package bot.service;
 
+import bot.metrics.Metrics;
 import bot.task.TaskList;
 import bot.task.Task;
 
@@ -7,34 +8,81 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 /**
  * A utility class for handling file-based operations, specifically for managing a list of tasks.
  * This class uses the `java.nio.file` API for file system access.
  */
 public class FileService {
-    private final Path path;
+    /** Durability option that appends every change to a journal, the default of every entry point */
+    public static final String JOURNAL_DURABILITY = "journal";
+
+    protected final Path path;
+
+    /** Encoding of the task file */
+    protected final TaskFileFormat format;
 
     /**
      * Constructs a {@code bot.service.FileService} instance to operate on a file at the specified path.
-     * The file does not need to exist when this object is created.
+     * The file does not need to exist when this object is created. The file format is
+     * picked by the file extension, see {@link TaskFileFormat#forPath(Path)}.
      *
      * @param path The string representation of the file path.
      */
     public FileService(String path) {
         this.path = Paths.get(path);
+        this.format = TaskFileFormat.forPath(this.path);
+    }
+
+    /**
+     * Constructs a {@code bot.service.FileService} instance that stores tasks in the given format,
+     * regardless of the file extension.
+     *
+     * @param path The string representation of the file path.
+     * @param format The encoding of the task file.
+     */
+    public FileService(String path, TaskFileFormat format) {
+        this.path = Paths.get(path);
+        this.format = format;
+    }
+
+    /**
+     * Creates the file service for a {@code --durability} option of the entry points.
+     * <p>
+     * {@value #JOURNAL_DURABILITY} appends every change to a {@link JournalFileService}
+     * before the command returns. The other options write the whole task list on the
+     * writer thread of a {@link WriteBehindFileService}, with the durability policy of the
+     * same name: "per-command", "interval" or "on-exit".
+     *
+     * @param path The string representation of the file path.
+     * @param durability The durability option, e.g. "interval".
+     * @return The file service that persists tasks with the given durability.
+     * @throws IllegalArgumentException If the option is not a known durability.
+     */
+    public static FileService forDurability(String path, String durability) throws IllegalArgumentException {
+        if (durability.equals(JOURNAL_DURABILITY)) {
+            return new JournalFileService(path);
+        }
+
+        WriteBehindFileService.DurabilityPolicy policy;
+        try {
+            policy = WriteBehindFileService.DurabilityPolicy.valueOf(
+                    durability.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown durability: " + durability
+                    + ", expected journal, per-command, interval or on-exit");
+        }
+        return new WriteBehindFileService(path, policy, WriteBehindFileService.DEFAULT_INTERVAL_MILLIS);
     }
 
     /**
      * Writes a list of tasks to the file specified during construction.
      * <p>
      * The method first ensures that the file and its parent directories exist.
-     * It then iterates through the provided task list, converts each task into
-     * a string representation suitable for file storage, and writes the combined
-     * string to the file, overwriting its contents.
+     * It then writes every task in the file format, overwriting its contents.
      *
      * @param taskList The list of {@code bot.task.Task} objects to be written to the file.
      * @throws IOException If an I/O error occurs during file or directory creation,
@@ -44,23 +92,122 @@ public class FileService {
         // Check if file exist. Create path + file if it doesn't exist
         ensureFileExists();
 
-        // Format task list into String for writing to file
-        StringBuilder data = new StringBuilder();
-        for (Task task : taskList.getTaskList()) {
-            data.append(task.toFileString());
-        }
+        // Write task list to file in its format
+        long startTime = System.nanoTime();
+        long bytesWritten = format.write(path, taskList.getTaskList());
+        Metrics.recordPersist(System.nanoTime() - startTime, bytesWritten);
+    }
 
-        // Write to data to file
-        Files.writeString(path, data.toString());
+    /**
+     * Persists the task list after a new task is added.
+     * <p>
+     * By default the whole task list is rewritten. Subclasses may override this
+     * to persist only the mutation.
+     *
+     * @param taskList The task list after the task is added.
+     * @param task The task that was added.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    public void saveAddedTask(TaskList taskList, Task task) throws IOException {
+        writeToFile(taskList);
+    }
+
+    /**
+     * Persists the task list after a task is marked as done.
+     *
+     * @param taskList The task list after the task is marked.
+     * @param index Task index position in task list, starting from 1.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    public void saveMarkedTask(TaskList taskList, int index) throws IOException {
+        writeToFile(taskList);
+    }
+
+    /**
+     * Persists the task list after a task is marked as not done.
+     *
+     * @param taskList The task list after the task is unmarked.
+     * @param index Task index position in task list, starting from 1.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    public void saveUnmarkedTask(TaskList taskList, int index) throws IOException {
+        writeToFile(taskList);
+    }
+
+    /**
+     * Persists the task list after a task is removed.
+     *
+     * @param taskList The task list after the task is removed.
+     * @param index Task index position of the removed task, starting from 1.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    public void saveRemovedTask(TaskList taskList, int index) throws IOException {
+        writeToFile(taskList);
+    }
+
+    /**
+     * Persists the task list after many tasks are marked as done by one command.
+     *
+     * @param taskList The task list after the tasks are marked.
+     * @param indexes Task index positions in task list, starting from 1.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    public void saveMarkedTasks(TaskList taskList, BitSet indexes) throws IOException {
+        writeToFile(taskList);
+    }
+
+    /**
+     * Persists the task list after many tasks are marked as not done by one command.
+     *
+     * @param taskList The task list after the tasks are unmarked.
+     * @param indexes Task index positions in task list, starting from 1.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    public void saveUnmarkedTasks(TaskList taskList, BitSet indexes) throws IOException {
+        writeToFile(taskList);
+    }
+
+    /**
+     * Persists the task list after many tasks are removed by one command.
+     *
+     * @param taskList The task list after the tasks are removed.
+     * @param indexes Task index positions of the removed tasks before the removal, starting from 1.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    public void saveRemovedTasks(TaskList taskList, BitSet indexes) throws IOException {
+        writeToFile(taskList);
+    }
+
+    /**
+     * Persists the task list after it is sorted.
+     *
+     * @param taskList The task list after sorting.
+     * @param sortType The sort type applied, either "name" or "date".
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    public void saveSortedList(TaskList taskList, String sortType) throws IOException {
+        writeToFile(taskList);
+    }
+
+    /**
+     * Blocks until every change saved so far is on disk.
+     * <p>
+     * Writes are synchronous by default, so there is nothing to wait for; services
+     * that write in the background override this.
+     *
+     * @throws IOException If an I/O error occurs while writing pending changes.
+     */
+    public void flush() throws IOException {
+        // Every save is already written when it returns
     }
 
     /**
      * Reads tasks from the file specified and returns them
      * as a list of bot.task.Task objects.
      * <p>
-     * The method uses {@code Files.readAllLines()} to read all lines from the file.
-     * It then iterates through the list of strings, converting each line back into
-     * a bot.task.Task object
+     * The method decodes the file with its {@link TaskFileFormat}. The text format
+     * uses a {@link StreamingTaskLoader} that converts the lines back into
+     * bot.task.Task objects in parallel, keeping the order of the file.
      *
      * @return A list of {@code bot.task.Task} objects read from the file.
      * @throws IOException If an I/O error occurs during the file reading process.
@@ -69,11 +216,8 @@ public class FileService {
         // Check if file exist. Create path + file if it doesn't exist
         ensureFileExists();
 
-        // Read all lines from the file
-        List<String> lines = Files.readAllLines(path);
-
-        // Process each line and create bot.task.Task objects
-        return lines.stream().map(Task::createTaskFromFileString).toList();
+        // Read and decode the file in its format
+        return format.read(path);
     }
 
     /**
@@ -83,7 +227,7 @@ public class FileService {
      *
      * @throws IOException If an I/O error occurs while creating directories or the file.
      */
-    private void ensureFileExists() throws IOException {
+    protected void ensureFileExists() throws IOException {
         if (Files.exists(path)) {
             // File exist, do nothing
             return;
@@ -0,0 +1,367 @@
+package bot.service;
+
+import bot.metrics.Metrics;
+import bot.task.Task;
+import bot.task.TaskList;
+import bot.util.IndexRanges;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link FileService} that appends each mutation to a journal file instead of
+ * rewriting the whole task list on every command.
+ * <p>
+ * The task file is kept as a snapshot in its usual {@link TaskFileFormat}. Every
+ * mutation (add, mark, unmark, delete, sort) is appended as one text line to a journal
+ * next to it, e.g. {@code taskData.txt.journal}. On startup, the journal is replayed
+ * on top of the snapshot. Once the journal grows past a size threshold, it is folded
+ * into a new snapshot on a background thread.
+ * <p>
+ * The journal record formats are:
+ * <ul>
+ *     <li>{@code "add | <task file string>"}</li>
+ *     <li>{@code "mark | <indexes>"}</li>
+ *     <li>{@code "unmark | <indexes>"}</li>
+ *     <li>{@code "delete | <indexes>"}</li>
+ *     <li>{@code "sort | <name or date>"}</li>
+ * </ul>
+ * where {@code <indexes>} is a single index or, for a bulk command, a range string as
+ * formatted by {@link IndexRanges}, e.g. {@code "1,4,9-20"}. A bulk command is one
+ * record however many tasks it changes, and its indexes are the positions before it.
+ * A last record without its line break was torn by a crash while it was appended, so
+ * its command never returned; it is dropped on replay and cut off the journal.
+ */
+public class JournalFileService extends FileService {
+    /** Journal size in bytes that triggers a compaction */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final String RECORD_SEPARATOR = " | ";
+
+    /** Journal that new mutation records are appended to */
+    private final Path journalPath;
+
+    /** Journal that is being folded into the snapshot by a compaction */
+    private final Path compactingJournalPath;
+
+    /** Fully written snapshot waiting to replace the current one */
+    private final Path newSnapshotPath;
+
+    private final long compactionThreshold;
+
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Size of the journal in bytes, tracked to avoid a file system call per append */
+    private long journalSize;
+
+    /** Pending background compaction, or null if none is running */
+    private Future<?> compaction;
+
+    /**
+     * Constructs a {@code JournalFileService} with the default compaction threshold.
+     *
+     * @param path The string representation of the snapshot file path.
+     */
+    public JournalFileService(String path) {
+        this(path, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code JournalFileService} that compacts the journal once it
+     * grows past the given size.
+     *
+     * @param path The string representation of the snapshot file path.
+     * @param compactionThreshold Journal size in bytes that triggers a compaction.
+     */
+    public JournalFileService(String path, long compactionThreshold) {
+        super(path);
+        this.journalPath = this.path.resolveSibling(this.path.getFileName() + ".journal");
+        this.compactingJournalPath = this.path.resolveSibling(this.path.getFileName() + ".journal.compacting");
+        this.newSnapshotPath = this.path.resolveSibling(this.path.getFileName() + ".new");
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Writes a full snapshot of the task list and clears the journal.
+     *
+     * @param taskList The list of {@code bot.task.Task} objects to be written to the file.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    @Override
+    public synchronized void writeToFile(TaskList taskList) throws IOException {
+        awaitCompaction();
+        super.writeToFile(taskList);
+        Files.deleteIfExists(journalPath);
+        journalSize = 0;
+    }
+
+    @Override
+    public void saveAddedTask(TaskList taskList, Task task) throws IOException {
+        // Task file string already ends with a line break
+        appendRecord(taskList, "add" + RECORD_SEPARATOR + task.toFileString());
+    }
+
+    @Override
+    public void saveMarkedTask(TaskList taskList, int index) throws IOException {
+        appendRecord(taskList, "mark" + RECORD_SEPARATOR + index + "\n");
+    }
+
+    @Override
+    public void saveUnmarkedTask(TaskList taskList, int index) throws IOException {
+        appendRecord(taskList, "unmark" + RECORD_SEPARATOR + index + "\n");
+    }
+
+    @Override
+    public void saveRemovedTask(TaskList taskList, int index) throws IOException {
+        appendRecord(taskList, "delete" + RECORD_SEPARATOR + index + "\n");
+    }
+
+    @Override
+    public void saveMarkedTasks(TaskList taskList, BitSet indexes) throws IOException {
+        appendRecord(taskList, "mark" + RECORD_SEPARATOR + IndexRanges.format(indexes) + "\n");
+    }
+
+    @Override
+    public void saveUnmarkedTasks(TaskList taskList, BitSet indexes) throws IOException {
+        appendRecord(taskList, "unmark" + RECORD_SEPARATOR + IndexRanges.format(indexes) + "\n");
+    }
+
+    @Override
+    public void saveRemovedTasks(TaskList taskList, BitSet indexes) throws IOException {
+        appendRecord(taskList, "delete" + RECORD_SEPARATOR + IndexRanges.format(indexes) + "\n");
+    }
+
+    @Override
+    public void saveSortedList(TaskList taskList, String sortType) throws IOException {
+        appendRecord(taskList, "sort" + RECORD_SEPARATOR + sortType + "\n");
+    }
+
+    /**
+     * Reads the snapshot and replays the journal on top of it.
+     * <p>
+     * If a previous compaction was interrupted, it is recovered first so that
+     * no record is lost or applied twice.
+     *
+     * @return A list of {@code bot.task.Task} objects with all journaled mutations applied.
+     * @throws IOException If an I/O error occurs during the file reading process.
+     * @throws IllegalArgumentException If the snapshot or a journal record is malformed.
+     */
+    @Override
+    public synchronized List<Task> readFromFile() throws IOException, IllegalArgumentException {
+        awaitCompaction();
+        recoverCompaction();
+
+        List<Task> tasks = new ArrayList<>(super.readFromFile());
+        replayJournal(compactingJournalPath, tasks);
+        replayJournal(journalPath, tasks);
+
+        journalSize = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+        return tasks;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // Journal records are appended synchronously, only a compaction can be pending
+        awaitCompaction();
+    }
+
+    /**
+     * Blocks until a running background compaction has finished.
+     *
+     * @throws IOException If the compaction failed.
+     */
+    public synchronized void awaitCompaction() throws IOException {
+        if (compaction == null) {
+            return;
+        }
+
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for journal compaction", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Journal compaction failed", e.getCause());
+        } finally {
+            compaction = null;
+        }
+    }
+
+    /**
+     * Appends a record to the journal and starts a compaction if the journal is
+     * past the threshold.
+     *
+     * @param taskList The task list after the mutation is applied.
+     * @param record The journal record, terminated by a line break.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    private synchronized void appendRecord(TaskList taskList, String record) throws IOException {
+        ensureFileExists();
+
+        long startTime = System.nanoTime();
+        byte[] bytes = record.getBytes(StandardCharsets.UTF_8);
+        Files.write(journalPath, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalSize += bytes.length;
+        Metrics.recordPersist(System.nanoTime() - startTime, bytes.length);
+
+        boolean isCompactionRunning = compaction != null && !compaction.isDone();
+        if (journalSize >= compactionThreshold && !isCompactionRunning) {
+            startCompaction(taskList);
+        }
+    }
+
+    /**
+     * Moves the current journal aside and writes a new snapshot in the background.
+     * <p>
+     * Records appended while the compaction runs go to a fresh journal, so callers
+     * never wait for the snapshot to be written.
+     *
+     * @param taskList The task list that the new snapshot is taken from.
+     * @throws IOException If the journal cannot be moved aside.
+     */
+    private void startCompaction(TaskList taskList) throws IOException {
+        // Surface the result of the previous compaction before starting a new one
+        awaitCompaction();
+
+        // Take the snapshot now, the list may be mutated while the snapshot is written
+        List<Task> snapshot = taskList.getTaskList();
+        Files.move(journalPath, compactingJournalPath, StandardCopyOption.ATOMIC_MOVE);
+        journalSize = 0;
+
+        compaction = compactionExecutor.submit(() -> {
+            // Commit order matters for recovery, see recoverCompaction()
+            Metrics.recordBytesWritten(format.write(newSnapshotPath, snapshot));
+            Files.delete(compactingJournalPath);
+            Files.move(newSnapshotPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return null;
+        });
+    }
+
+    /**
+     * Restores a consistent state after a compaction was interrupted.
+     * <p>
+     * While the compacting journal exists, the new snapshot is incomplete and is
+     * discarded. Once the compacting journal is gone, the new snapshot already
+     * contains its records and replaces the old snapshot.
+     *
+     * @throws IOException If an I/O error occurs while moving or deleting files.
+     */
+    private void recoverCompaction() throws IOException {
+        if (Files.exists(compactingJournalPath)) {
+            Files.deleteIfExists(newSnapshotPath);
+        } else if (Files.exists(newSnapshotPath)) {
+            Files.move(newSnapshotPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Applies every record of a journal file to the given tasks, in order. A torn last
+     * record is cut off the file, so that the next record appended starts on its own line.
+     *
+     * @param journal The journal file to replay, ignored if it does not exist.
+     * @param tasks The tasks to apply the records to.
+     * @throws IOException If an I/O error occurs during the file reading process.
+     * @throws IllegalArgumentException If a record is malformed.
+     */
+    private static void replayJournal(Path journal, List<Task> tasks)
+            throws IOException, IllegalArgumentException {
+        if (!Files.exists(journal)) {
+            return;
+        }
+
+        byte[] bytes = Files.readAllBytes(journal);
+        int length = bytes.length;
+        while (length > 0 && bytes[length - 1] != '\n') {
+            length--;
+        }
+        if (length < bytes.length) {
+            try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                channel.truncate(length);
+            }
+        }
+
+        // Cut at a line break, so a torn multi-byte character is never decoded
+        String records = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        for (String record : records.split("\n")) {
+            if (record.isEmpty()) {
+                continue;
+            }
+            applyRecord(record, tasks);
+        }
+    }
+
+    /**
+     * Applies a single journal record to the given tasks.
+     *
+     * @param record The journal record without its line break.
+     * @param tasks The tasks to apply the record to.
+     * @throws IllegalArgumentException If the record is malformed.
+     */
+    private static void applyRecord(String record, List<Task> tasks) throws IllegalArgumentException {
+        int separatorIndex = record.indexOf(RECORD_SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new IllegalArgumentException("Invalid journal record: " + record);
+        }
+
+        String operation = record.substring(0, separatorIndex);
+        String argument = record.substring(separatorIndex + RECORD_SEPARATOR.length());
+
+        try {
+            switch (operation) {
+            case "add" -> tasks.add(Task.createTaskFromFileString(argument));
+            case "mark" -> {
+                BitSet indexes = IndexRanges.parse(argument, tasks.size());
+                indexes.stream().forEach(index -> tasks.get(index - 1).markDone());
+            }
+            case "unmark" -> {
+                BitSet indexes = IndexRanges.parse(argument, tasks.size());
+                indexes.stream().forEach(index -> tasks.get(index - 1).markNotDone());
+            }
+            case "delete" -> removeTasks(tasks, IndexRanges.parse(argument, tasks.size()));
+            case "sort" -> {
+                switch (argument) {
+                case "name" -> tasks.sort(Task::compareTo);
+                case "date" -> tasks.sort(Task::compareDateTo);
+                default -> throw new IllegalArgumentException("Invalid journal record: " + record);
+                }
+            }
+            default -> throw new IllegalArgumentException("Invalid journal record: " + record);
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // NumberFormatException is already an IllegalArgumentException
+            throw new IllegalArgumentException("Invalid journal record: " + record, e);
+        }
+    }
+
+    /**
+     * Removes the tasks at the given positions in one pass, keeping the order of the rest.
+     *
+     * @param tasks The tasks to remove from.
+     * @param indexes Positions of the tasks to be removed, starting from 1.
+     */
+    private static void removeTasks(List<Task> tasks, BitSet indexes) {
+        int writeIndex = 0;
+        for (int readIndex = 0; readIndex < tasks.size(); readIndex++) {
+            if (!indexes.get(readIndex + 1)) {
+                tasks.set(writeIndex++, tasks.get(readIndex));
+            }
+        }
+        tasks.subList(writeIndex, tasks.size()).clear();
+    }
+}
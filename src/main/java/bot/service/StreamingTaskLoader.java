@@ -0,0 +1,244 @@
+package bot.service;
+
+import bot.task.Task;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Loads tasks from a task file by memory-mapping it in chunks and parsing the
+ * chunks in parallel.
+ * <p>
+ * The file is split into chunks of roughly {@link #DEFAULT_CHUNK_SIZE} bytes, with
+ * every chunk boundary moved forward to just after a line break so that no line
+ * is split across chunks. Chunks are parsed on a fork-join pool and joined back
+ * in file order, so the returned tasks keep the order of the file.
+ * <p>
+ * Lines are handled the same way as {@code Files.readAllLines()}: a line break is
+ * {@code "\n"}, {@code "\r\n"} or {@code "\r"}, a missing line break at the
+ * end of the file does not drop the last line, and bytes that are not valid UTF-8
+ * fail the load with a {@link java.nio.charset.CharacterCodingException}.
+ */
+public class StreamingTaskLoader {
+    /** Target size in bytes of a chunk parsed by a single fork-join task */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    /** Number of bytes read at a time while searching for a chunk boundary */
+    private static final int BOUNDARY_SCAN_SIZE = 4096;
+
+    private final int chunkSize;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a loader with the default chunk size on the common fork-join pool.
+     */
+    public StreamingTaskLoader() {
+        this(DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a loader with the given chunk size and fork-join pool.
+     *
+     * @param chunkSize Target size in bytes of a chunk parsed by a single task.
+     * @param pool The fork-join pool that chunks are parsed on.
+     */
+    public StreamingTaskLoader(int chunkSize, ForkJoinPool pool) {
+        assert chunkSize > 0 : "Chunk size should be positive";
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Reads and parses every task in the file, in file order.
+     *
+     * @param path The task file to read.
+     * @return A list of {@code Task} objects read from the file.
+     * @throws IOException If an I/O error occurs during the file reading process.
+     * @throws IllegalArgumentException If a line is not a valid task file string.
+     */
+    public List<Task> load(Path path) throws IOException, IllegalArgumentException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            List<Long> boundaries = findChunkBoundaries(channel);
+            if (boundaries.size() <= 2) {
+                // Single chunk, not worth handing over to the pool
+                return parseChunk(channel, boundaries.get(0), boundaries.get(boundaries.size() - 1));
+            }
+
+            try {
+                return pool.invoke(new ChunkParser(channel, boundaries, 0, boundaries.size() - 1));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (IllegalArgumentException e) {
+                // Fork-join rethrows exceptions from worker threads wrapped in a copy of the same type
+                if (e.getCause() instanceof IllegalArgumentException) {
+                    throw (IllegalArgumentException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Splits the file into chunks that each start right after a line break.
+     *
+     * @param channel The channel of the file to split.
+     * @return The chunk start offsets in ascending order, followed by the file size.
+     * @throws IOException If an I/O error occurs during the file reading process.
+     */
+    private List<Long> findChunkBoundaries(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+
+        ByteBuffer scanBuffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long position = chunkSize;
+        while (position < fileSize) {
+            long boundary = findNextLineStart(channel, position, scanBuffer);
+            if (boundary >= fileSize) {
+                break;
+            }
+            boundaries.add(boundary);
+            position = boundary + chunkSize;
+        }
+
+        boundaries.add(fileSize);
+        return boundaries;
+    }
+
+    /**
+     * Finds the offset of the first line that starts at or after the given position.
+     *
+     * @param channel The channel of the file to scan.
+     * @param position The offset to start scanning from.
+     * @param scanBuffer A reusable buffer for reading the file.
+     * @return The offset right after the next {@code '\n'}, or the file size if there is none.
+     * @throws IOException If an I/O error occurs during the file reading process.
+     */
+    private static long findNextLineStart(FileChannel channel, long position, ByteBuffer scanBuffer)
+            throws IOException {
+        long offset = position;
+        while (true) {
+            scanBuffer.clear();
+            int bytesRead = channel.read(scanBuffer, offset);
+            if (bytesRead <= 0) {
+                return channel.size();
+            }
+
+            for (int i = 0; i < bytesRead; i++) {
+                // A "\r\n" pair is never split as the boundary is placed after the '\n'
+                if (scanBuffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += bytesRead;
+        }
+    }
+
+    /**
+     * Maps a chunk of the file into memory and parses every line in it.
+     *
+     * @param channel The channel of the file to read.
+     * @param start The offset of the first byte of the chunk.
+     * @param end The offset right after the last byte of the chunk.
+     * @return The tasks in the chunk, in file order.
+     * @throws IOException If an I/O error occurs during the file reading process.
+     */
+    private static List<Task> parseChunk(FileChannel channel, long start, long end) throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        if (start == end) {
+            return tasks;
+        }
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        // Malformed bytes fail the load instead of being replaced, like Files.readAllLines()
+        CharBuffer chars = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(buffer);
+
+        int lineStart = 0;
+        int length = chars.length();
+        for (int i = 0; i < length; i++) {
+            char c = chars.get(i);
+            if (c != '\n' && c != '\r') {
+                continue;
+            }
+
+            tasks.add(Task.createTaskFromFileString(chars.subSequence(lineStart, i).toString()));
+
+            boolean isCrLf = c == '\r' && i + 1 < length && chars.get(i + 1) == '\n';
+            if (isCrLf) {
+                i++;
+            }
+            lineStart = i + 1;
+        }
+
+        // Last line of the file without a trailing line break
+        if (lineStart < length) {
+            tasks.add(Task.createTaskFromFileString(chars.subSequence(lineStart, length).toString()));
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Fork-join task that parses a range of chunks and joins the results in order.
+     */
+    private static class ChunkParser extends RecursiveTask<List<Task>> {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final List<Long> boundaries;
+        private final int fromChunk;
+        private final int toChunk;
+
+        /**
+         * Constructs a parser for the chunks in {@code [fromChunk, toChunk)}.
+         *
+         * @param channel The channel of the file to read.
+         * @param boundaries The chunk start offsets followed by the file size.
+         * @param fromChunk Index of the first chunk, inclusive.
+         * @param toChunk Index of the last chunk, exclusive.
+         */
+        ChunkParser(FileChannel channel, List<Long> boundaries, int fromChunk, int toChunk) {
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected List<Task> compute() {
+            if (toChunk - fromChunk == 1) {
+                try {
+                    return parseChunk(channel, boundaries.get(fromChunk), boundaries.get(toChunk));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            int midChunk = (fromChunk + toChunk) >>> 1;
+            ChunkParser left = new ChunkParser(channel, boundaries, fromChunk, midChunk);
+            ChunkParser right = new ChunkParser(channel, boundaries, midChunk, toChunk);
+            left.fork();
+
+            List<Task> rightTasks = right.compute();
+            List<Task> tasks = left.join();
+            tasks.addAll(rightTasks);
+            return tasks;
+        }
+    }
+}
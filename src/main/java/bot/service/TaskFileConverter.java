@@ -0,0 +1,44 @@
+package bot.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Converts a task file between the text and binary formats.
+ * <p>
+ * The format of each file is picked by its extension, see {@link TaskFileFormat#forPath(Path)}.
+ * For example, converting {@code taskData.txt} to {@code taskData.bin} produces a binary
+ * file, and converting it back produces a text file.
+ */
+public class TaskFileConverter {
+    /**
+     * Reads every task in the source file and writes them to the target file.
+     *
+     * @param source The task file to read from.
+     * @param target The task file to write to, overwritten if it exists.
+     * @throws IOException If an I/O error occurs while reading or writing.
+     * @throws IllegalArgumentException If the source file is not in the format matching its extension.
+     */
+    public static void convert(Path source, Path target) throws IOException, IllegalArgumentException {
+        TaskFileFormat sourceFormat = TaskFileFormat.forPath(source);
+        TaskFileFormat targetFormat = TaskFileFormat.forPath(target);
+        targetFormat.write(target, sourceFormat.read(source));
+    }
+
+    /**
+     * Converts a task file from the command line.
+     * <p>
+     * Usage: {@code TaskFileConverter <source> <target>}
+     *
+     * @param args The source and target file paths.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: TaskFileConverter <source> <target>");
+            System.exit(1);
+        }
+
+        convert(Paths.get(args[0]), Paths.get(args[1]));
+    }
+}
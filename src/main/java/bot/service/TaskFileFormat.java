@@ -0,0 +1,52 @@
+package bot.service;
+
+import bot.task.Task;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents an on-disk encoding of a task list.
+ * <p>
+ * The format of a task file is picked by its extension: files ending in
+ * {@value #BINARY_EXTENSION} use the {@link BinaryTaskFileFormat}, every other file
+ * uses the pipe-delimited {@link TextTaskFileFormat}.
+ */
+public interface TaskFileFormat {
+    /** File extension that selects the binary format */
+    String BINARY_EXTENSION = ".bin";
+
+    /**
+     * Writes the tasks to the file, overwriting its contents.
+     *
+     * @param path The file to write to.
+     * @param tasks The tasks to be written, in order.
+     * @return The number of bytes written.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    long write(Path path, List<Task> tasks) throws IOException;
+
+    /**
+     * Reads every task in the file, in order.
+     *
+     * @param path The file to read from.
+     * @return A list of {@code Task} objects read from the file.
+     * @throws IOException If an I/O error occurs during the file reading process.
+     * @throws IllegalArgumentException If the file content is not in this format.
+     */
+    List<Task> read(Path path) throws IOException, IllegalArgumentException;
+
+    /**
+     * Returns the format matching the extension of the given file.
+     *
+     * @param path The task file.
+     * @return The binary format for {@value #BINARY_EXTENSION} files, the text format otherwise.
+     */
+    static TaskFileFormat forPath(Path path) {
+        if (path.getFileName().toString().endsWith(BINARY_EXTENSION)) {
+            return new BinaryTaskFileFormat();
+        }
+        return new TextTaskFileFormat();
+    }
+}
@@ -0,0 +1,38 @@
+package bot.service;
+
+import bot.task.Task;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The pipe-delimited text format, one task per line, e.g. {@code "D | 0 | homework | 23-09-2025 2359"}.
+ *
+ * @see Task#toFileString()
+ * @see Task#createTaskFromFileString(String)
+ */
+public class TextTaskFileFormat implements TaskFileFormat {
+    private final StreamingTaskLoader loader = new StreamingTaskLoader();
+
+    @Override
+    public long write(Path path, List<Task> tasks) throws IOException {
+        // Format task list into String for writing to file
+        StringBuilder data = new StringBuilder();
+        for (Task task : tasks) {
+            data.append(task.toFileString());
+        }
+
+        byte[] bytes = data.toString().getBytes(StandardCharsets.UTF_8);
+        Files.write(path, bytes);
+        return bytes.length;
+    }
+
+    @Override
+    public List<Task> read(Path path) throws IOException, IllegalArgumentException {
+        // Read and parse the file chunk by chunk
+        return loader.load(path);
+    }
+}
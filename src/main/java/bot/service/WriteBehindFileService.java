@@ -0,0 +1,283 @@
+package bot.service;
+
+import bot.metrics.Metrics;
+import bot.task.Task;
+import bot.task.TaskList;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * A {@link FileService} that writes the task file on a dedicated writer thread, so
+ * that commands do not block on disk I/O.
+ * <p>
+ * Every mutation replaces the pending snapshot of the task list. The writer thread
+ * only writes the latest snapshot, so a burst of mutations is coalesced into a single
+ * write. Each write goes to a temporary file that is synced to disk and then moved
+ * over the task file, so a crash never leaves a half-written task file.
+ * <p>
+ * When a write becomes durable is decided by the {@link DurabilityPolicy}. Whatever
+ * the policy, {@link #flush()} blocks until every mutation so far is on disk; it is
+ * called by the exit command and by a shutdown hook.
+ * <p>
+ * A failed write is retried after a delay that doubles with every failure in a row, up
+ * to {@value #MAX_RETRY_DELAY_MILLIS} milliseconds, so a full or read-only disk is not
+ * hammered while it lasts. Until a write succeeds again, waiting for a write fails.
+ */
+public class WriteBehindFileService extends FileService {
+    /** Default time between writes for {@link DurabilityPolicy#INTERVAL} */
+    public static final long DEFAULT_INTERVAL_MILLIS = 1000;
+
+    /** Delay before the first retry of a failed write */
+    static final long INITIAL_RETRY_DELAY_MILLIS = 100;
+
+    /** Longest delay between retries of a failed write */
+    static final long MAX_RETRY_DELAY_MILLIS = 10_000;
+
+    /**
+     * Decides how long a mutation may stay in memory before it is written.
+     */
+    public enum DurabilityPolicy {
+        /** Every command waits until its mutation is synced; concurrent commands share a sync */
+        PER_COMMAND,
+        /** Mutations are written in the background at most once per interval */
+        INTERVAL,
+        /** Mutations are only written when flushed, e.g. on exit */
+        ON_EXIT
+    }
+
+    private final DurabilityPolicy policy;
+
+    private final long intervalMillis;
+
+    private final Path tempPath;
+
+    private final Object lock = new Object();
+
+    /** Latest snapshot waiting to be written, or null if the file is up to date */
+    private List<Task> pendingSnapshot;
+
+    /** Version of the latest mutation, increased on every write request */
+    private long requestedVersion = 0;
+
+    /** Version of the latest mutation that is on disk */
+    private long writtenVersion = 0;
+
+    /** Version that a flush is waiting for, written regardless of the policy */
+    private long flushVersion = 0;
+
+    /** Failure of the latest write, cleared by the next successful write */
+    private IOException writeFailure;
+
+    private long lastWriteMillis = 0;
+
+    /** Delay before retrying after the latest failure, 0 if the latest write succeeded */
+    private long retryDelayMillis = 0;
+
+    /**
+     * Constructs a {@code WriteBehindFileService} that writes in the background at most
+     * once per {@link #DEFAULT_INTERVAL_MILLIS}.
+     *
+     * @param path The string representation of the file path.
+     */
+    public WriteBehindFileService(String path) {
+        this(path, DurabilityPolicy.INTERVAL, DEFAULT_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code WriteBehindFileService} with the given durability policy.
+     *
+     * @param path The string representation of the file path.
+     * @param policy When mutations are written to disk.
+     * @param intervalMillis Minimum time between writes for {@link DurabilityPolicy#INTERVAL}.
+     */
+    public WriteBehindFileService(String path, DurabilityPolicy policy, long intervalMillis) {
+        super(path);
+        this.policy = policy;
+        this.intervalMillis = intervalMillis;
+        this.tempPath = this.path.resolveSibling(this.path.getFileName() + ".tmp");
+
+        Thread writer = new Thread(this::runWriter, "write-behind-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                flush();
+            } catch (IOException e) {
+                System.err.println("Unable to save tasks on exit: " + e.getMessage());
+            }
+        }, "write-behind-shutdown"));
+    }
+
+    /**
+     * Queues the task list to be written by the writer thread.
+     * <p>
+     * Only an O(1) snapshot of the list is queued, which stays unchanged while commands
+     * keep changing the task list. With
+     * {@link DurabilityPolicy#PER_COMMAND}, this blocks until the snapshot is on disk.
+     *
+     * @param taskList The list of {@code bot.task.Task} objects to be written to the file.
+     * @throws IOException If the write is awaited and fails.
+     */
+    @Override
+    public void writeToFile(TaskList taskList) throws IOException {
+        long version;
+        synchronized (lock) {
+            pendingSnapshot = taskList.getTaskList();
+            version = ++requestedVersion;
+            lock.notifyAll();
+        }
+
+        if (policy == DurabilityPolicy.PER_COMMAND) {
+            awaitWritten(version);
+        }
+    }
+
+    /**
+     * Blocks until every mutation queued so far is on disk.
+     *
+     * @throws IOException If writing the pending mutations fails.
+     */
+    @Override
+    public void flush() throws IOException {
+        long version;
+        synchronized (lock) {
+            version = requestedVersion;
+            flushVersion = Math.max(flushVersion, version);
+            lock.notifyAll();
+        }
+
+        awaitWritten(version);
+    }
+
+    /**
+     * Blocks until the given version is on disk.
+     *
+     * @param version The version to wait for.
+     * @throws IOException If the latest write failed before the version was written.
+     */
+    private void awaitWritten(long version) throws IOException {
+        synchronized (lock) {
+            while (writtenVersion < version) {
+                if (writeFailure != null) {
+                    throw writeFailure;
+                }
+
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for tasks to be saved", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes pending snapshots whenever the policy allows, until the process exits.
+     */
+    private void runWriter() {
+        while (true) {
+            List<Task> snapshot;
+            long version;
+            synchronized (lock) {
+                try {
+                    waitUntilWriteIsDue();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                snapshot = pendingSnapshot;
+                version = requestedVersion;
+                pendingSnapshot = null;
+            }
+
+            IOException failure = null;
+            try {
+                writeDurably(snapshot);
+            } catch (IOException e) {
+                failure = e;
+            }
+
+            synchronized (lock) {
+                lastWriteMillis = System.currentTimeMillis();
+                if (failure == null) {
+                    writtenVersion = version;
+                    writeFailure = null;
+                    retryDelayMillis = 0;
+                } else {
+                    writeFailure = failure;
+                    retryDelayMillis = Math.min(Math.max(retryDelayMillis * 2, INITIAL_RETRY_DELAY_MILLIS),
+                            MAX_RETRY_DELAY_MILLIS);
+                    if (pendingSnapshot == null) {
+                        // Keep the snapshot so the retry writes it
+                        pendingSnapshot = snapshot;
+                    }
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits on the lock until there is a pending snapshot that should be written now,
+     * and any retry delay after a failed write is over.
+     *
+     * @throws InterruptedException If the writer thread is interrupted.
+     */
+    private void waitUntilWriteIsDue() throws InterruptedException {
+        while (true) {
+            if (writeFailure != null) {
+                long retryWaitMillis = lastWriteMillis + retryDelayMillis - System.currentTimeMillis();
+                if (retryWaitMillis > 0) {
+                    lock.wait(retryWaitMillis);
+                    continue;
+                }
+            }
+
+            boolean isFlushRequested = flushVersion > writtenVersion;
+            if (pendingSnapshot != null && (isFlushRequested || policy == DurabilityPolicy.PER_COMMAND)) {
+                return;
+            }
+
+            if (pendingSnapshot != null && policy == DurabilityPolicy.INTERVAL) {
+                long waitMillis = lastWriteMillis + intervalMillis - System.currentTimeMillis();
+                if (waitMillis <= 0) {
+                    return;
+                }
+                lock.wait(waitMillis);
+            } else {
+                lock.wait();
+            }
+        }
+    }
+
+    /**
+     * Writes the tasks to a temporary file, syncs it and moves it over the task file.
+     * The write is recorded like {@link FileService#writeToFile(TaskList)} records it, but
+     * as its own execution, since no command runs on the writer thread to take it off.
+     *
+     * @param tasks The tasks to be written.
+     * @throws IOException If an I/O error occurs during the writing process.
+     */
+    void writeDurably(List<Task> tasks) throws IOException {
+        ensureFileExists();
+
+        long startTime = System.nanoTime();
+        long bytesWritten = format.write(tempPath, tasks);
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long persistNanos = System.nanoTime() - startTime;
+        Metrics.recordPersist(persistNanos, bytesWritten);
+        Metrics.recordExecution(WriteBehindFileService.class.getSimpleName(), persistNanos);
+    }
+}
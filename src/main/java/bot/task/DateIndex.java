@@ -0,0 +1,96 @@
+package bot.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * An ordered index of tasks by their sort date, kept up to date on every add and remove.
+ * <p>
+ * Tasks are ordered the same way a stable sort with {@link Task#compareDateTo(Task)}
+ * orders the task list: by {@link Task#getSortDate()}, with tasks without a date last,
+ * and ties kept in task list order. Ties are broken by a sequence number that increases
+ * with the position in the task list. Adding appends the largest sequence number and
+ * removing keeps the relative order intact; only reordering the task list by anything
+ * other than date requires the sequence numbers to be rebuilt.
+ */
+class DateIndex {
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator
+            .comparing((Entry entry) -> entry.sortDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(entry -> entry.sequence);
+
+    private final Map<Task, Entry> entries = new IdentityHashMap<>();
+
+    private final TreeSet<Entry> orderedEntries = new TreeSet<>(ENTRY_ORDER);
+
+    private long nextSequence = 0;
+
+    /**
+     * Indexes a task that was appended to the end of the task list.
+     *
+     * @param task The task to be indexed.
+     */
+    void add(Task task) {
+        Entry entry = new Entry(task, nextSequence++);
+        entries.put(task, entry);
+        orderedEntries.add(entry);
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task The task to be removed.
+     */
+    void remove(Task task) {
+        Entry entry = entries.remove(task);
+        if (entry != null) {
+            orderedEntries.remove(entry);
+        }
+    }
+
+    /**
+     * Rebuilds the index after the task list is reordered by something other than date.
+     *
+     * @param tasks Every indexed task, in its new list order.
+     */
+    void rebuild(List<Task> tasks) {
+        entries.clear();
+        orderedEntries.clear();
+        nextSequence = 0;
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    /**
+     * Returns every indexed task ordered by date.
+     *
+     * @return The tasks ordered by sort date, tasks without a date last.
+     */
+    List<Task> getTasksByDate() {
+        List<Task> tasks = new ArrayList<>(orderedEntries.size());
+        for (Entry entry : orderedEntries) {
+            tasks.add(entry.task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Index data kept for each task.
+     */
+    private static class Entry {
+        private final Task task;
+        private final LocalDateTime sortDate;
+        private final long sequence;
+
+        Entry(Task task, long sequence) {
+            this.task = task;
+            this.sortDate = task.getSortDate();
+            this.sequence = sequence;
+        }
+    }
+}
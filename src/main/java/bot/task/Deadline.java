@@ -42,6 +42,18 @@ public class Deadline extends Task {
         this.deadline = DateTimeUtils.fromString(deadline);
     }
 
+    /**
+     * Constructs a Deadline task with an already parsed deadline and completion status.
+     *
+     * @param taskName the name/description of the task
+     * @param deadline the deadline date and time
+     * @param isDone the completion status of the task
+     */
+    public Deadline(String taskName, LocalDateTime deadline, boolean isDone) {
+        super(taskName, isDone);
+        this.deadline = deadline;
+    }
+
     public LocalDateTime getDeadline() {
         return deadline;
     }
@@ -80,6 +92,16 @@ public class Deadline extends Task {
         }
     }
 
+    /**
+     * Returns the deadline, which is the date a deadline task is sorted by.
+     *
+     * @return The deadline date time of the task
+     */
+    @Override
+    public LocalDateTime getSortDate() {
+        return deadline;
+    }
+
     /**
      * Display string format of bot.task.Deadline task with status, task name
      * and deadline
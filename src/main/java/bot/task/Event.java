@@ -58,6 +58,24 @@ public class Event extends Task {
         this.endTime = DateTimeUtils.fromString(endTime);
     }
 
+    /**
+     * Constructs an Event task with already parsed start and end times and completion status.
+     *
+     * @param taskName the name/description of the event
+     * @param startTime the start date and time
+     * @param endTime the end date and time
+     * @param isDone the completion status of the task
+     */
+    public Event(String taskName, LocalDateTime startTime, LocalDateTime endTime, boolean isDone) {
+        super(taskName, isDone);
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
     public LocalDateTime getEndTime() {
         return endTime;
     }
@@ -97,6 +115,16 @@ public class Event extends Task {
         }
     }
 
+    /**
+     * Returns the end time, which is the date an event task is sorted by.
+     *
+     * @return The end date time of the event task
+     */
+    @Override
+    public LocalDateTime getSortDate() {
+        return endTime;
+    }
+
     /**
      * Display string format of bot.task.Event task with status, task name,
      * start time and end time
@@ -0,0 +1,125 @@
+package bot.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted n-gram index over task names for case-insensitive substring search.
+ * <p>
+ * Every lowercase task name, the sort key that each task already keeps, is split into
+ * overlapping n-grams of {@link #GRAM_LENGTH} characters, and each n-gram maps to the
+ * tasks whose name contains it. Names and keywords are lowercased in {@link Locale#ROOT},
+ * so the index agrees with {@link Task#isNameMatch(String)} whatever the default locale.
+ * A keyword query looks up the n-grams of the keyword and only checks the tasks of its
+ * rarest n-gram with {@code contains}. Keywords shorter than an n-gram fall back to a
+ * scan over the lowercase names.
+ * <p>
+ * Matches are returned in task list order, by sorting them on the order key that
+ * {@link TaskList} keeps on every task.
+ */
+class NameIndex {
+    /** Number of characters in an n-gram */
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Task>> grams = new HashMap<>();
+
+    /**
+     * Indexes a task that was appended to the end of the task list.
+     *
+     * @param task The task to be indexed.
+     */
+    void add(Task task) {
+        for (String gram : toGrams(task.getSortKey())) {
+            grams.computeIfAbsent(gram, key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(task);
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task The task to be removed.
+     */
+    void remove(Task task) {
+        for (String gram : toGrams(task.getSortKey())) {
+            Set<Task> tasks = grams.get(gram);
+            if (tasks == null) {
+                return; // The task was never indexed
+            }
+
+            tasks.remove(task);
+            if (tasks.isEmpty()) {
+                grams.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    void clear() {
+        grams.clear();
+    }
+
+    /**
+     * Finds the tasks whose names contain the keyword, ignoring case.
+     *
+     * @param keyword The keyword to search for within task names.
+     * @param tasks Every indexed task, in list order, used when the keyword is too short for the index.
+     * @return The matching tasks in list order.
+     */
+    List<Task> search(String keyword, List<Task> tasks) {
+        String lowerCaseKeyword = keyword.toLowerCase(Locale.ROOT);
+
+        List<Task> matches = new ArrayList<>();
+        if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+            for (Task task : tasks) {
+                if (task.getSortKey().contains(lowerCaseKeyword)) {
+                    matches.add(task);
+                }
+            }
+            return matches;
+        }
+
+        // Start from the rarest n-gram to keep the candidate set small
+        List<Set<Task>> postings = new ArrayList<>();
+        for (String gram : toGrams(lowerCaseKeyword)) {
+            Set<Task> posting = grams.get(gram);
+            if (posting == null) {
+                return matches;
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        for (Task candidate : postings.get(0)) {
+            if (candidate.getSortKey().contains(lowerCaseKeyword)) {
+                matches.add(candidate);
+            }
+        }
+
+        matches.sort(Comparator.comparingLong(Task::getOrderKey));
+        return matches;
+    }
+
+    /**
+     * Splits a lowercase string into its distinct n-grams.
+     *
+     * @param text The lowercase string.
+     * @return The distinct n-grams of the string, empty if it is shorter than an n-gram.
+     */
+    private static Set<String> toGrams(String text) {
+        Set<String> textGrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            textGrams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return textGrams;
+    }
+}
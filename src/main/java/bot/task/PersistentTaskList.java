@@ -0,0 +1,249 @@
+package bot.task;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list of tasks that shares structure with the lists it was derived from.
+ * <p>
+ * The tasks are kept in a balanced binary tree ordered by position, where every node
+ * knows the size of its subtree. Appending or removing a task copies only the path
+ * from the root to the changed node and returns a new list, so both operations take
+ * O(log n) and every earlier list stays valid and unchanged. Holding on to a list is
+ * therefore an O(1) snapshot.
+ * <p>
+ * Only the order and membership of tasks is frozen: the tasks themselves are shared,
+ * so marking a task as done shows in every list that holds it.
+ */
+final class PersistentTaskList extends AbstractList<Task> {
+    /** The list without any task */
+    static final PersistentTaskList EMPTY = new PersistentTaskList(null);
+
+    private final Node root;
+
+    private PersistentTaskList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a list holding the given tasks, in the same order.
+     *
+     * @param tasks The tasks of the list.
+     * @return The given list if it is already a {@code PersistentTaskList}, otherwise a new balanced list.
+     */
+    static PersistentTaskList of(List<Task> tasks) {
+        if (tasks instanceof PersistentTaskList persistentTasks) {
+            return persistentTasks;
+        }
+
+        Task[] taskArray = tasks.toArray(new Task[0]);
+        return new PersistentTaskList(build(taskArray, 0, taskArray.length));
+    }
+
+    /**
+     * Returns a new list with the task appended to the end of this list.
+     *
+     * @param task The task to be appended.
+     * @return The new list.
+     */
+    PersistentTaskList append(Task task) {
+        return new PersistentTaskList(insert(root, size(root), task));
+    }
+
+    /**
+     * Returns a new list without the task at the given position of this list.
+     *
+     * @param index The position of the task to be left out, starting from 0.
+     * @return The new list.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    PersistentTaskList without(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentTaskList(delete(root, index));
+    }
+
+    /**
+     * Returns the position of a task in O(log n), using the order keys of the tasks.
+     * Only valid while the order keys increase along this list, which {@link TaskList}
+     * keeps true for its current version.
+     *
+     * @param task The task to be found.
+     * @return The position of the task starting from 0, or -1 if the list does not hold it.
+     */
+    int positionOf(Task task) {
+        long orderKey = task.getOrderKey();
+        int position = 0;
+
+        Node node = root;
+        while (node != null) {
+            long nodeOrderKey = node.task.getOrderKey();
+            if (orderKey < nodeOrderKey) {
+                node = node.left;
+            } else if (orderKey > nodeOrderKey) {
+                position += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return node.task == task ? position + size(node.left) : -1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Task get(int index) {
+        Objects.checkIndex(index, size());
+
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.task;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Iterates the tasks in order in O(1) amortized per task, unlike repeated {@link #get(int)}.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node> path = new ArrayDeque<>();
+
+            {
+                pushLeftPath(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public Task next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+
+                Node node = path.pop();
+                pushLeftPath(node.right);
+                return node.task;
+            }
+
+            private void pushLeftPath(Node node) {
+                for (Node current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    private static Node build(Task[] tasks, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+
+        int middle = (from + to) >>> 1;
+        return new Node(tasks[middle], build(tasks, from, middle), build(tasks, middle + 1, to));
+    }
+
+    private static Node insert(Node node, int index, Task task) {
+        if (node == null) {
+            return new Node(task, null, null);
+        }
+
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.task, insert(node.left, index, task), node.right);
+        }
+        return balance(node.task, node.left, insert(node.right, index - leftSize - 1, task));
+    }
+
+    private static Node delete(Node node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.task, delete(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.task, node.left, delete(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+
+        // Replace the removed task with the first task of the right subtree
+        Node first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(first.task, node.left, delete(node.right, 0));
+    }
+
+    /**
+     * Creates a node from its parts, rotating once or twice if the subtree heights
+     * differ by more than one, as in an AVL tree.
+     */
+    private static Node balance(Task task, Node left, Node right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.task, left.left, new Node(task, left.right, right));
+            }
+            Node middle = left.right;
+            return new Node(middle.task, new Node(left.task, left.left, middle.left),
+                    new Node(task, middle.right, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(right.task, new Node(task, left, right.left), right.right);
+            }
+            Node middle = right.left;
+            return new Node(middle.task, new Node(task, left, middle.left),
+                    new Node(right.task, middle.right, right.right));
+        }
+        return new Node(task, left, right);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node holding one task.
+     */
+    private static final class Node {
+        private final Task task;
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        Node(Task task, Node left, Node right) {
+            this.task = task;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
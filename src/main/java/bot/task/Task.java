@@ -1,5 +1,8 @@
 package bot.task;
 
+import java.time.LocalDateTime;
+import java.util.Locale;
+
 /**
  * Represents a generic task with a description and a completion status.
  * <p>
@@ -9,8 +12,17 @@ public abstract class Task implements Comparable<Task> {
     /** Name of the task */
     private final String name;
 
+    /** Lowercase name computed once, so that sorting and searching by name do not allocate */
+    private final String sortKey;
+
     /** Status of the task, true if task is marked as done */
-    private boolean isDone;
+    private volatile boolean isDone;
+
+    /** Stable ID assigned when the task is first added to a task list, 0 before that */
+    private long id = 0;
+
+    /** Key that increases with the position of the task in its task list */
+    private long orderKey = 0;
 
     /**
      * Constructs a Task with the specified name.
@@ -20,6 +32,7 @@ public abstract class Task implements Comparable<Task> {
      */
     public Task(String name) {
         this.name = name;
+        this.sortKey = name.toLowerCase(Locale.ROOT);
         isDone = false;
     }
 
@@ -31,9 +44,41 @@ public abstract class Task implements Comparable<Task> {
      */
     public Task(String name, boolean isDone) {
         this.name = name;
+        this.sortKey = name.toLowerCase(Locale.ROOT);
         this.isDone = isDone;
     }
 
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the name in lowercase, as it is compared when sorting and searching by name.
+     */
+    String getSortKey() {
+        return sortKey;
+    }
+
+    public boolean isDone() {
+        return isDone;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    void setId(long id) {
+        this.id = id;
+    }
+
+    long getOrderKey() {
+        return orderKey;
+    }
+
+    void setOrderKey(long orderKey) {
+        this.orderKey = orderKey;
+    }
+
     /**
      * Sets the task as done
      **/
@@ -66,7 +111,7 @@ public abstract class Task implements Comparable<Task> {
      * @return true if the task name contains the keyword (ignoring case), false otherwise
      */
     public boolean isNameMatch(String keyword) {
-        return name.toLowerCase().contains(keyword.toLowerCase());
+        return sortKey.contains(keyword.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -149,6 +194,11 @@ public abstract class Task implements Comparable<Task> {
 
     /**
      * Compares this task to another task based on their names in a case-insensitive manner.
+     * <p>
+     * The comparison uses the lowercase names cached at construction, so no strings
+     * are allocated per comparison. Names are lowercased with {@link Locale#ROOT} to
+     * give the same order regardless of the default locale.
+     * </p>
      *
      * @param otherTask the task to be compared with this task
      * @return a negative integer, zero, or a positive integer as this task's name
@@ -158,8 +208,15 @@ public abstract class Task implements Comparable<Task> {
      */
     @Override
     public int compareTo(Task otherTask) {
-        return name.toLowerCase().compareTo(otherTask.name.toLowerCase());
+        return sortKey.compareTo(otherTask.sortKey);
     }
 
     public abstract int compareDateTo(Task otherTask);
+
+    /**
+     * Returns the date this task is ordered by when sorting by date.
+     *
+     * @return The date to sort by, or null if the task has no date
+     */
+    public abstract LocalDateTime getSortDate();
 }
@@ -0,0 +1,149 @@
+package bot.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.TreeMap;
+
+/**
+ * Counts of tasks by type and status, kept up to date on every add, remove and mark,
+ * so that a summary of the task list never needs a pass over the tasks.
+ * <p>
+ * Pending tasks with a date are counted in buckets by the day they are due, which is
+ * {@link Task#getSortDate()}: the deadline of a deadline task and the end of an event.
+ * A task is overdue once its due day is before today. The count of overdue tasks is
+ * kept for the current day and moved forward bucket by bucket when the day changes,
+ * so each bucket is crossed once and a summary takes amortized O(1) time.
+ */
+class TaskCounters {
+    private int todoCount = 0;
+
+    private int deadlineCount = 0;
+
+    private int eventCount = 0;
+
+    private int doneCount = 0;
+
+    /** Number of pending tasks due on each day, without days that have none */
+    private final TreeMap<LocalDate, Integer> pendingCountsByDueDay = new TreeMap<>();
+
+    /** The day that the overdue count is for */
+    private LocalDate today;
+
+    /** Number of pending tasks due before today */
+    private int overdueCount = 0;
+
+    /**
+     * Constructs empty counters for the given day.
+     *
+     * @param today The day that tasks due before it are overdue.
+     */
+    TaskCounters(LocalDate today) {
+        this.today = today;
+    }
+
+    /**
+     * Counts a task that was added to the task list.
+     *
+     * @param task The task to be counted.
+     */
+    void add(Task task) {
+        count(task, 1);
+    }
+
+    /**
+     * Stops counting a task that was removed from the task list, or whose status is
+     * about to change.
+     *
+     * @param task The task to be uncounted.
+     */
+    void remove(Task task) {
+        count(task, -1);
+    }
+
+    /**
+     * Resets every count, e.g. before the task list is replaced.
+     */
+    void clear() {
+        todoCount = 0;
+        deadlineCount = 0;
+        eventCount = 0;
+        doneCount = 0;
+        pendingCountsByDueDay.clear();
+        overdueCount = 0;
+    }
+
+    /**
+     * Returns whether the overdue count is for the given day.
+     *
+     * @param day The day to check.
+     * @return true if no bucket has to be moved before a summary for the day, false otherwise
+     */
+    boolean isAt(LocalDate day) {
+        return today.equals(day);
+    }
+
+    /**
+     * Moves the overdue count to the given day, adding the buckets that became overdue
+     * since the last day, or taking away the ones that are no longer overdue.
+     *
+     * @param day The new day that tasks due before it are overdue.
+     */
+    void moveTo(LocalDate day) {
+        if (day.isAfter(today)) {
+            overdueCount += sumPendingCounts(today, day);
+        } else if (day.isBefore(today)) {
+            overdueCount -= sumPendingCounts(day, today);
+        }
+        today = day;
+    }
+
+    /**
+     * Returns the counts for the current day.
+     *
+     * @return A summary of the counted tasks.
+     */
+    TaskSummary getSummary() {
+        return new TaskSummary(todoCount, deadlineCount, eventCount, doneCount, overdueCount,
+                pendingCountsByDueDay.getOrDefault(today, 0));
+    }
+
+    /**
+     * Adds a task to every count it belongs in, or takes it away for a negative delta.
+     */
+    private void count(Task task, int delta) {
+        if (task instanceof Todo) {
+            todoCount += delta;
+        } else if (task instanceof Deadline) {
+            deadlineCount += delta;
+        } else if (task instanceof Event) {
+            eventCount += delta;
+        }
+
+        if (task.isDone()) {
+            doneCount += delta;
+            return;
+        }
+
+        LocalDateTime dueDate = task.getSortDate();
+        if (dueDate == null) {
+            return;
+        }
+
+        LocalDate dueDay = dueDate.toLocalDate();
+        pendingCountsByDueDay.merge(dueDay, delta, (count, change) -> count + change == 0 ? null : count + change);
+        if (dueDay.isBefore(today)) {
+            overdueCount += delta;
+        }
+    }
+
+    /**
+     * Returns the number of pending tasks due from the first day up to, but not including, the last day.
+     */
+    private int sumPendingCounts(LocalDate fromDay, LocalDate toDay) {
+        int sum = 0;
+        for (int count : pendingCountsByDueDay.subMap(fromDay, toDay).values()) {
+            sum += count;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,137 @@
+package bot.task;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from task ID to task, keyed by primitive longs.
+ * <p>
+ * Uses open addressing with linear probing over parallel key and value arrays, so
+ * lookups neither box the ID nor follow pointers to entry objects. Removal shifts the
+ * following entries of the probe chain back instead of leaving tombstones. IDs must be
+ * positive, since 0 marks an empty slot.
+ */
+class TaskIdMap {
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Key of an empty slot */
+    private static final long EMPTY = 0;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    private Task[] values = new Task[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    /**
+     * Returns the task with the given ID.
+     *
+     * @param id The task ID.
+     * @return The task, or null if no task has the ID.
+     */
+    Task get(long id) {
+        int slot = findSlot(id);
+        return keys[slot] == id && id != EMPTY ? values[slot] : null;
+    }
+
+    /**
+     * Maps the ID to the task, replacing any task with the same ID.
+     *
+     * @param id The task ID, greater than 0.
+     * @param task The task.
+     */
+    void put(long id, Task task) {
+        assert id > 0 : "Task ID should be positive";
+
+        // Keep the load factor at most 3/4 so probe chains stay short
+        if ((size + 1) * 4L > keys.length * 3L) {
+            resize(keys.length * 2);
+        }
+
+        int slot = findSlot(id);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = id;
+            size++;
+        }
+        values[slot] = task;
+    }
+
+    /**
+     * Removes the task with the given ID.
+     *
+     * @param id The task ID.
+     * @return The removed task, or null if no task has the ID.
+     */
+    Task remove(long id) {
+        int slot = findSlot(id);
+        if (keys[slot] != id || id == EMPTY) {
+            return null;
+        }
+        Task removedTask = values[slot];
+
+        // Shift back every following entry that would not be found past the new gap
+        int mask = keys.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            boolean isHomeAfterGap = gap <= next ? gap < home && home <= next : gap < home || home <= next;
+            if (!isHomeAfterGap) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+
+        keys[gap] = EMPTY;
+        values[gap] = null;
+        size--;
+        return removedTask;
+    }
+
+    /**
+     * Removes every task.
+     */
+    void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot holding the ID, or the empty slot where it would be inserted.
+     */
+    private int findSlot(long id) {
+        int mask = keys.length - 1;
+        int slot = hash(id) & mask;
+        while (keys[slot] != id && keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Task[] oldValues = values;
+        keys = new long[capacity];
+        values = new Task[capacity];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads sequential IDs over the table.
+     */
+    private static int hash(long id) {
+        long mixed = id * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
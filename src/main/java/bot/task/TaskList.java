@@ -2,22 +2,70 @@ package bot.task;
 
 import bot.exception.InvalidCommandException;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
 
 /**
  * Represents a collection of tasks and provides methods to manage them.
  * This class encapsulates a list of tasks and offers operations such as adding,
  * removing, and marking tasks as complete or incomplete.
+ * <p>
+ * A TaskList is safe to use from many threads. Changes are serialized by the write
+ * lock of a {@link StampedLock} and every public method is atomic. The tasks are held
+ * in a {@link PersistentTaskList}, and every change publishes a new version of it, so
+ * {@link #getTaskList()} and {@link #getSize()} never lock: they return an O(1)
+ * snapshot that renderers and savers can iterate while changes go on. Searches by name
+ * and date read their index optimistically, so they never block a change, and run
+ * again under the read lock only if a change overlapped them, so they never return a
+ * change half done. Tasks are created before the lock is taken, so parsing dates never
+ * holds up other threads.
+ * <p>
+ * Every task gets a stable ID when it is first added, which stays the same when other
+ * tasks are removed or the list is sorted. IDs map to tasks in a {@link TaskIdMap},
+ * and each task carries an order key that increases with its position, so the
+ * position of a task with a given ID is found in O(log n).
+ * <p>
+ * Counts of tasks by type, status and due day are kept in {@link TaskCounters} as
+ * tasks are added, removed and marked, so {@link #getSummary()} never walks the list.
+ * Other classes can follow the changes with a {@link TaskListListener}.
  */
 public class TaskList {
-    private final List<Task> taskList;
+    /** Current version of the tasks, replaced on every change */
+    private volatile PersistentTaskList taskList;
+
+    /** Index over task names for keyword search */
+    private final NameIndex nameIndex = new NameIndex();
+
+    /** Index of tasks ordered by date for sorting by date */
+    private final DateIndex dateIndex = new DateIndex();
+
+    /** Tasks by their stable ID */
+    private final TaskIdMap tasksById = new TaskIdMap();
+
+    /** Counts of tasks by type, status and due day */
+    private final TaskCounters counters = new TaskCounters(LocalDate.now());
+
+    /** Listeners called after every change, while the write lock is held */
+    private final List<TaskListListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Lock guarding the list, both indexes, the ID map and the counters */
+    private final StampedLock lock = new StampedLock();
+
+    private long nextId = 1;
+
+    private long nextOrderKey = 0;
 
     /**
      * Constructs an empty TaskList.
      */
     public TaskList() {
-        taskList = new ArrayList<>();
+        taskList = PersistentTaskList.EMPTY;
     }
 
     /**
@@ -26,7 +74,14 @@ public class TaskList {
      * @param taskList the initial list of tasks
      */
     public TaskList(List<Task> taskList) {
-        this.taskList = new ArrayList<>(taskList);
+        this.taskList = PersistentTaskList.of(taskList);
+        for (Task task : this.taskList) {
+            assignId(task);
+            task.setOrderKey(nextOrderKey++);
+            nameIndex.add(task);
+            dateIndex.add(task);
+            counters.add(task);
+        }
     }
 
     /**
@@ -37,7 +92,7 @@ public class TaskList {
      */
     public Task addTask(String taskName) {
         Task newTask = new Todo(taskName); // create new to-do task
-        this.taskList.add(newTask); // add task to task list
+        append(newTask); // add task to task list
         return newTask;
     }
 
@@ -51,7 +106,7 @@ public class TaskList {
      */
     public Task addTask(String taskName, String deadline) throws IllegalArgumentException {
         Task newTask = new Deadline(taskName, deadline); // create new deadline task
-        this.taskList.add(newTask);
+        append(newTask);
         return newTask;
     }
 
@@ -67,7 +122,7 @@ public class TaskList {
     public Task addTask(String taskName, String startTime, String endTime)
             throws IllegalArgumentException {
         Task newTask = new Event(taskName, startTime, endTime); // create new event task
-        this.taskList.add(newTask); // add task to task list
+        append(newTask); // add task to task list
         return newTask;
     }
 
@@ -79,16 +134,28 @@ public class TaskList {
      * @return The task that is removed from task list
      */
     public Task removeTask(int index) throws InvalidCommandException {
-        // Validation for index number
-        boolean isValidIndex = index <= this.taskList.size() && index >= 1;
-        if (!isValidIndex) {
-            throw new InvalidCommandException("Invalid task number");
-        }
+        long stamp = lock.writeLock();
+        try {
+            // Validation for index number
+            boolean isValidIndex = index <= this.taskList.size() && index >= 1;
+            if (!isValidIndex) {
+                throw new InvalidCommandException("Invalid task number");
+            }
 
-        // Remove the task from task list
-        // Index given starts from 1
-        int actualIndex = index - 1;
-        return this.taskList.remove(actualIndex);
+            // Remove the task from task list
+            // Index given starts from 1
+            int actualIndex = index - 1;
+            Task removedTask = this.taskList.get(actualIndex);
+            this.taskList = this.taskList.without(actualIndex);
+            tasksById.remove(removedTask.getId());
+            nameIndex.remove(removedTask);
+            dateIndex.remove(removedTask);
+            counters.remove(removedTask);
+            notifyTaskRemoved(removedTask);
+            return removedTask;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     /**
@@ -99,17 +166,25 @@ public class TaskList {
      * @return The task which status is mark as done
      */
     public Task markTaskAsDone(int index) throws InvalidCommandException {
-        // Validation for index number
-        boolean isValidIndex = index <= this.taskList.size() && index >= 1;
-        if (!isValidIndex) {
-            throw new InvalidCommandException("Invalid task number");
-        }
+        long stamp = lock.writeLock();
+        try {
+            // Validation for index number
+            boolean isValidIndex = index <= this.taskList.size() && index >= 1;
+            if (!isValidIndex) {
+                throw new InvalidCommandException("Invalid task number");
+            }
 
-        int actualIndex = index - 1;
-        Task task = this.taskList.get(actualIndex); // Index given starts from 1
-        task.markDone(); // Set task status to done
+            int actualIndex = index - 1;
+            Task task = this.taskList.get(actualIndex); // Index given starts from 1
+            counters.remove(task);
+            task.markDone(); // Set task status to done
+            counters.add(task);
+            notifyTaskStatusChanged(task);
 
-        return task;
+            return task;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     /**
@@ -120,36 +195,102 @@ public class TaskList {
      * @return The task which status is mark as not done
      */
     public Task markTaskAsNotDone(int index) throws InvalidCommandException {
-        // Validation for index number
-        boolean isValidIndex = index <= this.taskList.size() && index >= 1;
-        if (!isValidIndex) {
-            throw new InvalidCommandException("Invalid task number");
+        long stamp = lock.writeLock();
+        try {
+            // Validation for index number
+            boolean isValidIndex = index <= this.taskList.size() && index >= 1;
+            if (!isValidIndex) {
+                throw new InvalidCommandException("Invalid task number");
+            }
+
+            int actualIndex = index - 1;
+            Task task = this.taskList.get(actualIndex); // Index given starts from 1
+            counters.remove(task);
+            task.markNotDone(); // Set task status to not done
+            counters.add(task);
+            notifyTaskStatusChanged(task);
+
+            return task;
+        } finally {
+            lock.unlockWrite(stamp);
         }
+    }
+
+    /**
+     * Remove many tasks from task list in a single pass
+     * <p>
+     * The remaining tasks are collected in one pass over the list and the list is
+     * rebuilt from them once, so removing k of n tasks takes O(n) instead of the
+     * O(k log n) of removing them one by one, and the order keys stay valid.
+     * </p>
+     *
+     * @param indexes Task index positions in task List, starting from 1
+     * @throws InvalidCommandException if any index is out of bound
+     * @return The tasks that are removed from task list, in list order
+     */
+    public List<Task> removeTasks(BitSet indexes) throws InvalidCommandException {
+        long stamp = lock.writeLock();
+        try {
+            checkIndexes(indexes);
 
-        int actualIndex = index - 1;
-        Task task = this.taskList.get(actualIndex); // Index given starts from 1
-        task.markNotDone(); // Set task status to not done
+            int removedCount = indexes.cardinality();
+            List<Task> removedTasks = new ArrayList<>(removedCount);
+            List<Task> remainingTasks = new ArrayList<>(this.taskList.size() - removedCount);
+            int index = 1; // Index given starts from 1
+            for (Task task : this.taskList) {
+                if (indexes.get(index++)) {
+                    removedTasks.add(task);
+                    tasksById.remove(task.getId());
+                    nameIndex.remove(task);
+                    dateIndex.remove(task);
+                    counters.remove(task);
+                    notifyTaskRemoved(task);
+                } else {
+                    remainingTasks.add(task);
+                }
+            }
+
+            this.taskList = PersistentTaskList.of(remainingTasks);
+            return removedTasks;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Set status of many tasks as done
+     *
+     * @param indexes Task index positions in task List, starting from 1
+     * @throws InvalidCommandException if any index is out of bound
+     * @return The tasks which status is mark as done, in list order
+     */
+    public List<Task> markTasksAsDone(BitSet indexes) throws InvalidCommandException {
+        return setTasksDone(indexes, true);
+    }
 
-        return task;
+    /**
+     * Set status of many tasks as not done
+     *
+     * @param indexes Task index positions in task List, starting from 1
+     * @throws InvalidCommandException if any index is out of bound
+     * @return The tasks which status is mark as not done, in list order
+     */
+    public List<Task> markTasksAsNotDone(BitSet indexes) throws InvalidCommandException {
+        return setTasksDone(indexes, false);
     }
 
     /**
      * Search for tasks whose names contain the specified keyword (case-insensitive).
+     * <p>
+     * The search is answered from an n-gram index over the task names, so only
+     * tasks sharing the rarest n-gram of the keyword are checked.
+     * </p>
      *
      * @param keyword the keyword to search for within task names
      * @return a list of tasks whose names contain the keyword, or an empty list if no matches are found
      */
     public List<Task> searchTasksByName(String keyword) {
-        List<Task> filteredList = new ArrayList<>();
-
-        // Add to filter list if task name matches keyword
-        for (Task task : this.taskList) {
-            if (task.isNameMatch(keyword)) {
-                filteredList.add(task);
-            }
-        }
-
-        return filteredList;
+        return readOptimistically(() -> nameIndex.search(keyword, this.taskList));
     }
 
     /**
@@ -163,7 +304,16 @@ public class TaskList {
      * @see Task#compareTo(Task)
      */
     public void sortTaskByName() {
-        taskList.sort(Task::compareTo);
+        long stamp = lock.writeLock();
+        try {
+            List<Task> sortedTasks = new ArrayList<>(taskList);
+            sortedTasks.sort(Task::compareTo);
+            taskList = PersistentTaskList.of(sortedTasks);
+            reassignOrderKeys();
+            dateIndex.rebuild(taskList);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     /**
@@ -173,20 +323,70 @@ public class TaskList {
      * chronological order of the tasks. The sorting behavior depends on the
      * specific task types:
      * <ul>
-     *   <li>{@code To-do} tasks are sorted before {@code Deadline} and {@code Event} tasks</li>
+     *   <li>{@code To-do} tasks are sorted after {@code Deadline} and {@code Event} tasks</li>
      *   <li>{@code Deadline} tasks are compared by their deadline date/time</li>
      *   <li>{@code Event} tasks are compared by their end date/time</li>
      * </ul>
-     * The sorting is performed using the {@code compareDateTo} method implemented
-     * in each task subclass.
+     * The order is read from an index that is kept sorted as tasks are added and
+     * removed, so the task list is rebuilt in linear time instead of being re-sorted.
+     * Tasks with the same date keep their relative order.
      * </p>
      */
     public void sortTaskByDate() {
-        taskList.sort(Task::compareDateTo);
+        long stamp = lock.writeLock();
+        try {
+            taskList = PersistentTaskList.of(dateIndex.getTasksByDate());
+            reassignOrderKeys();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replaces every task in the task list, e.g. to roll back to an earlier snapshot.
+     *
+     * @param tasks The tasks that the task list should hold, in list order.
+     */
+    public void restore(List<Task> tasks) {
+        long stamp = lock.writeLock();
+        try {
+            for (Task task : taskList) {
+                notifyTaskRemoved(task);
+            }
+            taskList = PersistentTaskList.of(tasks);
+            reassignOrderKeys();
+
+            tasksById.clear();
+            nameIndex.clear();
+            counters.clear();
+            for (Task task : taskList) {
+                assignId(task);
+                nameIndex.add(task);
+                counters.add(task);
+                notifyTaskAdded(task);
+            }
+            dateIndex.rebuild(taskList);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the tasks ordered by date without changing the order of the task list.
+     *
+     * @return Tasks in the same order as after {@link #sortTaskByDate()}
+     */
+    public List<Task> getTasksByDate() {
+        return readOptimistically(dateIndex::getTasksByDate);
     }
 
     /**
      * Getter for task list
+     * <p>
+     * The returned list is an immutable snapshot that shares its structure with the
+     * task list. Taking it is O(1), and it can be iterated while other threads keep
+     * changing the task list. Marking a task as done shows in every snapshot holding it.
+     * </p>
      *
      * @return Task list in {@code List<Task>}
      */
@@ -202,4 +402,235 @@ public class TaskList {
     public int getSize() {
         return this.taskList.size();
     }
+
+    /**
+     * Returns the counts of tasks by type and status, with the tasks overdue and due today.
+     *
+     * @return The summary of the task list for the current day
+     */
+    public TaskSummary getSummary() {
+        return getSummary(LocalDate.now());
+    }
+
+    /**
+     * Returns the counts of tasks by type and status, with the tasks overdue and due on the given day.
+     * <p>
+     * The counts are kept up to date by every change, so this takes O(1) time however
+     * many tasks there are. Only the first summary of a new day moves the overdue count
+     * to that day, and takes the write lock to do it.
+     * </p>
+     *
+     * @param today The day that tasks due before it are overdue
+     * @return The summary of the task list for the given day
+     */
+    public TaskSummary getSummary(LocalDate today) {
+        long stamp = lock.readLock();
+        try {
+            if (!counters.isAt(today)) {
+                long writeStamp = lock.tryConvertToWriteLock(stamp);
+                if (writeStamp == 0) {
+                    lock.unlockRead(stamp);
+                    writeStamp = lock.writeLock();
+                }
+                stamp = writeStamp;
+                counters.moveTo(today);
+            }
+            return counters.getSummary();
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Runs a read of the indexes without blocking writers, as an optimistic read of the
+     * lock. If a change overlapped the read, its result may be torn, so the read runs
+     * again under the read lock. The indexes are plain collections, so a read that
+     * overlaps a change may also throw; the exception is dropped in that case too.
+     *
+     * @param read The read of the indexes, which must not change anything
+     * @return The result of a read that no change overlapped
+     */
+    private <T> T readOptimistically(Supplier<T> read) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = read.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e; // Not caused by a change, so reading again would fail the same way
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return read.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Adds a listener that is called after every later change, and with every task
+     * already in the task list, atomically, so that it misses no task.
+     *
+     * @param listener The listener to be added
+     */
+    public void addListener(TaskListListener listener) {
+        long stamp = lock.writeLock();
+        try {
+            for (Task task : taskList) {
+                listener.onTaskAdded(task);
+            }
+            listeners.add(listener);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes a listener, so that it is not called for any later change.
+     *
+     * @param listener The listener to be removed
+     */
+    public void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the position of the task with the given ID.
+     *
+     * @param id Stable ID of the task
+     * @throws InvalidCommandException if no task has the ID
+     * @return Task index position in task List, starting from 1
+     */
+    public int getIndexById(long id) throws InvalidCommandException {
+        long stamp = lock.readLock();
+        try {
+            Task task = tasksById.get(id);
+            if (task == null) {
+                throw new InvalidCommandException("Invalid task ID");
+            }
+
+            return taskList.positionOf(task) + 1;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Appends a new task to the end of the task list and indexes it.
+     *
+     * @param task The task to be appended.
+     */
+    private void append(Task task) {
+        long stamp = lock.writeLock();
+        try {
+            assignId(task);
+            task.setOrderKey(nextOrderKey++);
+            this.taskList = this.taskList.append(task);
+            nameIndex.add(task);
+            dateIndex.add(task);
+            counters.add(task);
+            notifyTaskAdded(task);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Marks the tasks at the given positions in one pass over the list, stopping after the last one.
+     *
+     * @param indexes Task index positions in task List, starting from 1
+     * @param isDone The new status of the tasks
+     * @throws InvalidCommandException if any index is out of bound
+     * @return The marked tasks, in list order
+     */
+    private List<Task> setTasksDone(BitSet indexes, boolean isDone) throws InvalidCommandException {
+        long stamp = lock.writeLock();
+        try {
+            checkIndexes(indexes);
+
+            List<Task> tasks = new ArrayList<>(indexes.cardinality());
+            Iterator<Task> iterator = this.taskList.iterator();
+            int index = 0;
+            for (int next = indexes.nextSetBit(0); next >= 0; next = indexes.nextSetBit(next + 1)) {
+                Task task;
+                do {
+                    task = iterator.next();
+                    index++;
+                } while (index < next);
+
+                counters.remove(task);
+                if (isDone) {
+                    task.markDone();
+                } else {
+                    task.markNotDone();
+                }
+                counters.add(task);
+                notifyTaskStatusChanged(task);
+                tasks.add(task);
+            }
+            return tasks;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void notifyTaskAdded(Task task) {
+        for (TaskListListener listener : listeners) {
+            listener.onTaskAdded(task);
+        }
+    }
+
+    private void notifyTaskRemoved(Task task) {
+        for (TaskListListener listener : listeners) {
+            listener.onTaskRemoved(task);
+        }
+    }
+
+    private void notifyTaskStatusChanged(Task task) {
+        for (TaskListListener listener : listeners) {
+            listener.onTaskStatusChanged(task);
+        }
+    }
+
+    /**
+     * Validates that every index is a position in the task list.
+     *
+     * @param indexes Task index positions in task List, starting from 1
+     * @throws InvalidCommandException if any index is out of bound
+     */
+    private void checkIndexes(BitSet indexes) throws InvalidCommandException {
+        boolean isValidIndexes = indexes.nextSetBit(0) != 0 && indexes.length() - 1 <= this.taskList.size();
+        if (!isValidIndexes) {
+            throw new InvalidCommandException("Invalid task number");
+        }
+    }
+
+    /**
+     * Gives the task a new ID if it has none yet, and maps its ID to it.
+     *
+     * @param task The task being added to the task list.
+     */
+    private void assignId(Task task) {
+        if (task.getId() == 0) {
+            task.setId(nextId++);
+        }
+        nextId = Math.max(nextId, task.getId() + 1);
+        tasksById.put(task.getId(), task);
+    }
+
+    /**
+     * Numbers the tasks in list order again after the list is reordered or replaced.
+     */
+    private void reassignOrderKeys() {
+        nextOrderKey = 0;
+        for (Task task : taskList) {
+            task.setOrderKey(nextOrderKey++);
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package bot.task;
+
+/**
+ * Listens to the changes of a {@link TaskList}, e.g. to keep reminders of its tasks.
+ * <p>
+ * Listeners are called while the task list holds its write lock, right after each
+ * change, so they see every change in order. They should return quickly and must not
+ * call back into the task list.
+ */
+public interface TaskListListener {
+    /**
+     * Called when a task is added to the task list, or is in it when the listener is added.
+     *
+     * @param task The added task.
+     */
+    void onTaskAdded(Task task);
+
+    /**
+     * Called when a task is removed from the task list.
+     *
+     * @param task The removed task.
+     */
+    void onTaskRemoved(Task task);
+
+    /**
+     * Called when a task is marked as done or not done, even if its status did not change.
+     *
+     * @param task The marked task, with its new status.
+     */
+    void onTaskStatusChanged(Task task);
+}
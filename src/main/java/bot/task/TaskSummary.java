@@ -0,0 +1,22 @@
+package bot.task;
+
+/**
+ * Counts of the tasks in a task list by type and status, taken at one point in time.
+ *
+ * @param todoCount Number of to-do tasks.
+ * @param deadlineCount Number of deadline tasks.
+ * @param eventCount Number of event tasks.
+ * @param doneCount Number of tasks marked as done.
+ * @param overdueCount Number of pending tasks due before today.
+ * @param dueTodayCount Number of pending tasks due today.
+ */
+public record TaskSummary(int todoCount, int deadlineCount, int eventCount, int doneCount, int overdueCount,
+        int dueTodayCount) {
+    public int getTaskCount() {
+        return todoCount + deadlineCount + eventCount;
+    }
+
+    public int getPendingCount() {
+        return getTaskCount() - doneCount;
+    }
+}
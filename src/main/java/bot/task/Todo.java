@@ -1,5 +1,7 @@
 package bot.task;
 
+import java.time.LocalDateTime;
+
 /**
  * Represents a simple to-do task without any specific date or time constraints.
  * This class extends the base Task class and provides to-do specific functionality.
@@ -62,6 +64,16 @@ public class Todo extends Task {
         return 1;
     }
 
+    /**
+     * Returns null as a to-do task has no date, so it sorts after dated tasks.
+     *
+     * @return null
+     */
+    @Override
+    public LocalDateTime getSortDate() {
+        return null;
+    }
+
     /**
      * Display string format of To-do task with status and task name.
      * The format is: "[T][status] [task name]"
@@ -0,0 +1,116 @@
+package bot.ui;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The messages of a chat session, capped at a number of messages kept in memory.
+ * <p>
+ * Once the history grows past its capacity by a quarter, the oldest messages are
+ * dropped in one go, so the list shifts rarely instead of on every message. If a
+ * spill file is set, the dropped messages are appended to it as a plain transcript
+ * first, so a long session is never lost, only kept out of memory.
+ */
+class ChatHistory {
+    /** Number of messages kept in memory unless another capacity is given */
+    static final int DEFAULT_CAPACITY = 1000;
+
+    private final ObservableList<ChatMessage> messages = FXCollections.observableArrayList();
+
+    private final int capacity;
+
+    /** Transcript that dropped messages are appended to, or null to discard them */
+    private Path spillPath;
+
+    /**
+     * Constructs an empty chat history.
+     *
+     * @param capacity The number of most recent messages that is always kept in memory.
+     */
+    ChatHistory(int capacity) {
+        assert capacity > 0 : "Capacity should be positive";
+        this.capacity = capacity;
+    }
+
+    void setSpillPath(Path spillPath) {
+        this.spillPath = spillPath;
+    }
+
+    /**
+     * Returns the messages kept in memory, oldest first, for a list view to show.
+     *
+     * @return The live list of messages.
+     */
+    ObservableList<ChatMessage> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Appends messages to the history, dropping the oldest ones if it grew too long.
+     *
+     * @param newMessages The messages to be appended, in order.
+     * @throws IOException If the dropped messages cannot be written to the spill file.
+     *                     They are still dropped, so memory stays bounded.
+     */
+    void add(ChatMessage... newMessages) throws IOException {
+        messages.addAll(newMessages);
+
+        int maxSize = capacity + capacity / 4;
+        if (messages.size() <= maxSize) {
+            return;
+        }
+
+        int dropCount = messages.size() - capacity;
+        List<ChatMessage> droppedMessages = Arrays.asList(messages.subList(0, dropCount).toArray(new ChatMessage[0]));
+        messages.remove(0, dropCount);
+        if (spillPath != null) {
+            spill(droppedMessages);
+        }
+    }
+
+    /**
+     * Replaces a message, e.g. the placeholder of a reply that is still pending.
+     * The message is looked up by identity from the newest one, since pending replies
+     * are near the end and equal placeholders must not be mixed up.
+     *
+     * @param oldMessage The message to be replaced.
+     * @param newMessage The message to show in its place.
+     * @return false if the old message was already dropped from the history, true otherwise.
+     */
+    boolean replace(ChatMessage oldMessage, ChatMessage newMessage) {
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if (messages.get(i) == oldMessage) {
+                messages.set(i, newMessage);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends messages to the spill file, each as a line naming the sender followed by its text.
+     */
+    private void spill(List<ChatMessage> droppedMessages) throws IOException {
+        if (spillPath.getParent() != null) {
+            Files.createDirectories(spillPath.getParent());
+        }
+
+        try (Writer writer = Files.newBufferedWriter(spillPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ChatMessage message : droppedMessages) {
+                writer.write(message.isFromBot() ? "[Lovely]\n" : "[You]\n");
+                writer.write(message.text());
+                writer.write("\n");
+            }
+        }
+    }
+}
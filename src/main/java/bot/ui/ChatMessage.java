@@ -0,0 +1,10 @@
+package bot.ui;
+
+/**
+ * A single message in the chat history, either typed by the user or replied by the bot.
+ *
+ * @param text The text of the message.
+ * @param isFromBot Whether the bot sent the message.
+ */
+record ChatMessage(String text, boolean isFromBot) {
+}
@@ -0,0 +1,162 @@
+package bot.ui;
+
+import bot.Bot;
+import bot.command.Command;
+import bot.util.CommandLine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Runs user commands off the JavaFX application thread, so that a slow command never
+ * freezes the window.
+ * <p>
+ * Commands run one at a time on a single worker thread, in the order they were
+ * submitted, and each response is handed back through a callback executor, which is
+ * {@code Platform::runLater} in the GUI. Every other method must be called on the
+ * thread that the callback executor runs on. Once the response of an exit command is
+ * handed back, the exit callback is run on the callback executor too.
+ * <p>
+ * Cancelling drops every command still waiting in the queue. A running command is
+ * only stopped if it is read-only, by interrupting it: read-only commands never write
+ * the task file, so stopping them halfway leaves nothing inconsistent. A command that
+ * changes tasks runs to the end once it has started, so that the task list and the
+ * task file always agree.
+ */
+class CommandRunner {
+    /** Response of a command that was cancelled */
+    static final String CANCELLED_MESSAGE = "Okay, I have stopped that command.";
+
+    private final Bot bot;
+
+    private final Executor callbackExecutor;
+
+    private final Runnable onExit;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Commands whose response has not been handed back yet, oldest first */
+    private final List<PendingCommand> pendingCommands = new ArrayList<>();
+
+    /**
+     * Constructs a CommandRunner for the given bot.
+     *
+     * @param bot The bot that executes the commands.
+     * @param callbackExecutor The executor that responses are handed back on, e.g. {@code Platform::runLater}.
+     * @param onExit Called on the callback executor after the response of an exit command, e.g. {@code Platform::exit}.
+     */
+    CommandRunner(Bot bot, Executor callbackExecutor, Runnable onExit) {
+        this.bot = bot;
+        this.callbackExecutor = callbackExecutor;
+        this.onExit = onExit;
+    }
+
+    /**
+     * Queues user input to be run as a command after every command submitted before it.
+     *
+     * @param input The trimmed user input.
+     * @param onResponse Called on the callback executor with the response of the command,
+     *                   or with {@link #CANCELLED_MESSAGE} if the command is cancelled.
+     */
+    void submit(String input, Consumer<String> onResponse) {
+        PendingCommand pendingCommand = new PendingCommand(onResponse);
+        pendingCommands.add(pendingCommand);
+        pendingCommand.future = worker.submit(() -> run(input, pendingCommand));
+    }
+
+    /**
+     * Cancels every pending command that can still be stopped, see the class description.
+     */
+    void cancelAll() {
+        for (PendingCommand pendingCommand : new ArrayList<>(pendingCommands)) {
+            // A running future can be cancelled too, so whether it started is tracked separately
+            boolean isCancelled = pendingCommand.isStarted.compareAndSet(false, true)
+                    || pendingCommand.isReadOnly && pendingCommand.future.cancel(true);
+            if (isCancelled) {
+                complete(pendingCommand, CANCELLED_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * Returns whether any submitted command has not had its response handed back yet.
+     *
+     * @return true if a command is queued or running, false otherwise
+     */
+    boolean hasPendingCommands() {
+        return !pendingCommands.isEmpty();
+    }
+
+    /**
+     * Parses and executes a command on the worker thread and hands its response back,
+     * followed by the exit callback if the command asked to exit.
+     */
+    private void run(String input, PendingCommand pendingCommand) {
+        if (!pendingCommand.isStarted.compareAndSet(false, true)) {
+            return; // Cancelled while queued
+        }
+
+        StringBuilder response = new StringBuilder();
+        Command.Result result = Command.Result.FAILED;
+        try {
+            CommandLine commandLine = bot.parseCommand(input);
+            pendingCommand.isReadOnly = commandLine.getCommand().isReadOnly();
+            result = bot.executeCommand(commandLine, response);
+        } catch (IOException | RuntimeException e) {
+            // A StringBuilder never fails, but rendering can be interrupted by a cancel.
+            // Without a response, the command would look pending forever
+            response.setLength(0);
+            response.append("Oh no, something went wrong: ").append(e.getMessage());
+        }
+
+        String finalResponse = response.toString();
+        boolean isExit = result == Command.Result.EXIT;
+        callbackExecutor.execute(() -> {
+            complete(pendingCommand, finalResponse);
+            if (isExit) {
+                onExit.run();
+            }
+        });
+    }
+
+    /**
+     * Hands back the response of a command, once, even if it is cancelled while its
+     * response is on the way.
+     */
+    private void complete(PendingCommand pendingCommand, String response) {
+        if (!pendingCommands.remove(pendingCommand)) {
+            return;
+        }
+        pendingCommand.onResponse.accept(response);
+    }
+
+    /**
+     * A command that was submitted and whose response has not been handed back yet.
+     */
+    private static final class PendingCommand {
+        private final Consumer<String> onResponse;
+
+        private Future<?> future;
+
+        /** Set once by whichever comes first, the worker starting the command or a cancel while queued */
+        private final AtomicBoolean isStarted = new AtomicBoolean(false);
+
+        /** Set by the worker once the command is parsed, read-only commands may be interrupted */
+        private volatile boolean isReadOnly = false;
+
+        PendingCommand(Consumer<String> onResponse) {
+            this.onResponse = onResponse;
+        }
+    }
+}
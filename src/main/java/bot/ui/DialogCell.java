@@ -0,0 +1,53 @@
+package bot.ui;
+
+import javafx.scene.control.ListCell;
+import javafx.scene.image.Image;
+
+/**
+ * A list cell that shows a chat message as a dialog box.
+ * <p>
+ * A list view only creates enough cells to fill its viewport and hands them new
+ * messages as it scrolls, so each cell keeps one dialog box per side and only
+ * changes its text, instead of loading a new dialog box for every message.
+ */
+class DialogCell extends ListCell<ChatMessage> {
+    private final Image userImage;
+    private final Image botImage;
+
+    /** Dialog boxes of this cell, created when the cell first shows a message from that side */
+    private DialogBox userDialog;
+    private DialogBox botDialog;
+
+    DialogCell(Image userImage, Image botImage) {
+        this.userImage = userImage;
+        this.botImage = botImage;
+
+        // Let the list view set the width, so that long messages wrap instead of scrolling sideways
+        setPrefWidth(0);
+    }
+
+    @Override
+    protected void updateItem(ChatMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+
+        if (message.isFromBot()) {
+            if (botDialog == null) {
+                botDialog = DialogBox.getBotDialog(message.text(), botImage);
+            } else {
+                botDialog.setText(message.text());
+            }
+            setGraphic(botDialog);
+        } else {
+            if (userDialog == null) {
+                userDialog = DialogBox.getUserDialog(message.text(), userImage);
+            } else {
+                userDialog.setText(message.text());
+            }
+            setGraphic(userDialog);
+        }
+    }
+}
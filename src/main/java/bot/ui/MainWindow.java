@@ -1,58 +1,137 @@
 package bot.ui;
 
 import bot.Bot;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
+
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * Controller for the main GUI.
+ * <p>
+ * The chat history is shown in a virtualized {@link ListView}, which only keeps
+ * dialog boxes for the messages on screen and reuses them while scrolling, so the
+ * scene graph stays the same size however long the session runs. The history itself
+ * is capped by {@link ChatHistory}.
+ * <p>
+ * Commands run on a {@link CommandRunner} in the background, so the window stays
+ * responsive. While a command is pending, its reply shows a placeholder and the send
+ * button turns into a stop button that cancels the pending commands.
+ * <p>
+ * Reminders of deadlines and events that are near are added to the chat history as
+ * messages from the bot.
  */
 public class MainWindow extends AnchorPane {
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<ChatMessage> dialogList;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
 
+    private static final String SEND_TEXT = "Send";
+
+    private static final String STOP_TEXT = "Stop";
+
+    /** Reply shown while a command is still running */
+    private static final String PENDING_TEXT = "Hmm, let me think...";
+
     private Bot bot;
 
+    private CommandRunner commandRunner;
+
+    private final ChatHistory chatHistory = new ChatHistory(ChatHistory.DEFAULT_CAPACITY);
+
     private final Image userImage = new Image(this.getClass().getResourceAsStream("/images/DaUser.png"));
     private final Image botImage = new Image(this.getClass().getResourceAsStream("/images/DaBot.png"));
 
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        dialogList.setItems(chatHistory.getMessages());
+        dialogList.setCellFactory(listView -> new DialogCell(userImage, botImage));
     }
 
     /** Injects the Bot instance */
     public void setBot(Bot b) {
         bot = b;
-        dialogContainer.getChildren().addAll(
-                DialogBox.getBotDialog(bot.getGreetingMessage(), botImage)
-        );
+        commandRunner = new CommandRunner(bot, Platform::runLater, Platform::exit);
+        addMessages(new ChatMessage(bot.getGreetingMessage(), true));
+        bot.startReminders(task -> Platform.runLater(() ->
+                addMessages(new ChatMessage(ResponseMessage.getReminderMessage(task), true))));
+    }
+
+    /**
+     * Saves messages that no longer fit in the chat history to a file instead of
+     * discarding them.
+     *
+     * @param spillPath The file that older messages are appended to.
+     */
+    public void setHistorySpillPath(Path spillPath) {
+        chatHistory.setSpillPath(spillPath);
+    }
+
+    /**
+     * Appends one message from the user and the reply of the bot to the chat history.
+     *
+     * @param input The input typed by the user.
+     * @param response The response of the bot.
+     */
+    void addExchange(String input, String response) {
+        addMessages(new ChatMessage(input, false), new ChatMessage(response, true));
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing bot reply and then appends them to
-     * the dialog container. Clears the user input after processing.
+     * Appends messages to the chat history and scrolls to the newest one.
+     */
+    private void addMessages(ChatMessage... messages) {
+        try {
+            chatHistory.add(messages);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        dialogList.scrollTo(chatHistory.getMessages().size() - 1);
+    }
+
+    /**
+     * Appends the user input and a pending reply to the chat history, and runs the
+     * command in the background. The reply is filled in once the command is done.
+     * Clears the user input after processing.
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
         String trimmedInput = input.trim();
-        String response = bot.generateResponse(trimmedInput);
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getBotDialog(response, botImage)
-        );
+
+        ChatMessage pendingReply = new ChatMessage(PENDING_TEXT, true);
+        addMessages(new ChatMessage(input, false), pendingReply);
+        commandRunner.submit(trimmedInput, response -> {
+            chatHistory.replace(pendingReply, new ChatMessage(response, true));
+            updateSendButton();
+        });
+
         userInput.clear();
+        updateSendButton();
+    }
+
+    /**
+     * Sends the user input, or cancels the pending commands if there are any.
+     */
+    @FXML
+    private void handleSendButton() {
+        if (commandRunner.hasPendingCommands()) {
+            commandRunner.cancelAll();
+        } else {
+            handleUserInput();
+        }
+    }
+
+    private void updateSendButton() {
+        sendButton.setText(commandRunner.hasPendingCommands() ? STOP_TEXT : SEND_TEXT);
     }
 }
@@ -1,10 +1,22 @@
 package bot.ui;
 
+import bot.metrics.Metrics;
 import bot.task.Task;
+import bot.task.TaskSummary;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 public class ResponseMessage {
+    private static final long NANOS_PER_MICRO = 1000;
+
+    /** Number of tasks rendered between checks for whether the command was cancelled */
+    private static final int CANCEL_CHECK_INTERVAL = 1024;
+
+    /** Most tasks listed in the response to a bulk command, the rest are only counted */
+    private static final int BULK_LISTING_LIMIT = 10;
 
     /**
      * Generates a success message for adding a task.
@@ -14,7 +26,7 @@ public class ResponseMessage {
      * @return A formatted string confirming the task addition and showing the new task count.
      */
     public static String getAddTaskSuccessMessage(Task task, int taskCount) {
-        return "YAY! You now have another task to work on: " + task
+        return "YAY! You now have another task to work on: " + task + " (#" + task.getId() + ")"
                 + "\nNow you have " + taskCount + " tasks in the list.";
     }
 
@@ -51,26 +63,149 @@ public class ResponseMessage {
     }
 
     /**
-     * Formats a list of tasks into a numbered, human-readable string.
+     * Generates a success message for marking many tasks as done with one command.
+     *
+     * @param tasks The tasks that were marked as done.
+     * @return A formatted string with the number of tasks marked and a summary of them.
+     */
+    public static String getMarkTasksSuccessMessage(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return "There is no task like that, so nothing is marked.";
+        }
+        return "You're so good that you manage to complete " + tasks.size() + " tasks:\n"
+                + getBulkTaskSummary(tasks);
+    }
+
+    /**
+     * Generates a success message for unmarking many tasks with one command.
+     *
+     * @param tasks The tasks that were marked as not done.
+     * @return A formatted string with the number of tasks unmarked and a summary of them.
+     */
+    public static String getUnmarkTasksSuccessMessage(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return "There is no task like that, so nothing is unmarked.";
+        }
+        return "Work harder to mark these " + tasks.size() + " tasks as done again! I'm sure you can do it:\n"
+                + getBulkTaskSummary(tasks);
+    }
+
+    /**
+     * Generates a success message for removing many tasks with one command.
+     *
+     * @param tasks The tasks that were removed.
+     * @param taskCount The total number of tasks remaining in the list.
+     * @return A formatted string with the number of tasks removed, a summary of them and the new task count.
+     */
+    public static String getRemoveTasksSuccessMessage(List<Task> tasks, int taskCount) {
+        if (tasks.isEmpty()) {
+            return "There is no task like that, so nothing is deleted."
+                    + "\nNow you have " + taskCount + " tasks in the list.";
+        }
+        return "MAGIC!! I have made " + tasks.size() + " tasks disappear:\n" + getBulkTaskSummary(tasks)
+                + "\nNow you have " + taskCount + " tasks in the list.";
+    }
+
+    /**
+     * Formats a list of tasks into a numbered, human-readable string, with the stable
+     * ID of each task after it.
      * If the list is empty, it returns a message indicating no tasks are present.
      *
      * @param taskList The list of tasks to format.
      * @return A numbered string representation of the tasks, or a "No tasks found" message.
      */
     public static String getTaskListMessage(List<Task> taskList) {
+        return getTaskListPageMessage(taskList, 1, Math.max(taskList.size(), 1));
+    }
+
+    /**
+     * Formats one page of a list of tasks into a numbered, human-readable string.
+     *
+     * @param taskList The list of tasks to format.
+     * @param page The page to format, starting from 1.
+     * @param pageSize The number of tasks on a page.
+     * @return A numbered string representation of the tasks on the page, followed by the
+     *         page number if there is more than one page, or a "No tasks found" message.
+     * @throws UncheckedIOException If the thread is interrupted while rendering.
+     */
+    public static String getTaskListPageMessage(List<Task> taskList, int page, int pageSize) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTaskListPage(taskList, page, pageSize, sb);
+        } catch (InterruptedIOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder should never throw IOException", e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes one page of a list of tasks to the output, one task at a time, so that the
+     * output receives the first line without waiting for the whole page to be rendered
+     * and no string of the whole page is ever built.
+     * <p>
+     * Tasks before the page are skipped by position, so the first line takes the same
+     * time whatever page is written. A page of many ends with the page number, and with
+     * how to see the rest unless it is the last page. The format is the same as
+     * {@link #getTaskListPageMessage(List, int, int)}.
+     * </p>
+     * <p>
+     * Rendering stops if the thread is interrupted, e.g. because the user cancelled the
+     * command in the GUI, so a long list never holds up the commands after it.
+     * </p>
+     *
+     * @param taskList The list of tasks to write.
+     * @param page The page to write, starting from 1.
+     * @param pageSize The number of tasks on a page.
+     * @param out The output that the page is written to.
+     * @throws IOException If the output cannot be written to.
+     * @throws InterruptedIOException If the thread is interrupted while rendering.
+     */
+    public static void writeTaskListPage(List<Task> taskList, int page, int pageSize, Appendable out)
+            throws IOException {
         if (taskList.isEmpty()) {
-            return "No tasks found, you look free! YAY!";
+            out.append("No tasks found, you look free! YAY!");
+            return;
         }
 
-        StringBuilder sb = new StringBuilder();
+        long startTime = System.nanoTime();
+        int taskCount = taskList.size();
+        int fromIndex = (int) Math.min((long) (page - 1) * pageSize, taskCount);
+        int toIndex = (int) Math.min((long) fromIndex + pageSize, taskCount);
 
-        // Iterate task list and print task
-        for (int i = 0; i < taskList.size(); i++) {
-            int indexNum = i + 1; // Index numbering should start from 1 instead of 0
-            sb.append(indexNum).append(". ").append(taskList.get(i)).append("\n");
+        // Iterate the whole list directly, snapshots are cheaper to iterate than to index
+        List<Task> pageTasks = fromIndex == 0 && toIndex == taskCount ? taskList : taskList.subList(fromIndex, toIndex);
+        int indexNum = fromIndex + 1; // Index numbering should start from 1 instead of 0
+        for (Task task : pageTasks) {
+            if (indexNum % CANCEL_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Rendering the task list was cancelled");
+            }
+            out.append(String.valueOf(indexNum++)).append(". ").append(task.toString())
+                    .append(" (#").append(String.valueOf(task.getId())).append(")\n");
         }
 
-        return sb.toString();
+        int pageCount = getPageCount(taskCount, pageSize);
+        if (pageCount > 1) {
+            out.append("Page " + page + " of " + pageCount + ", showing tasks " + (fromIndex + 1)
+                    + " to " + toIndex + " of " + taskCount + ".\n");
+        }
+        if (page < pageCount) {
+            // Otherwise a bare "list" looks like the whole list
+            out.append("Use \"list <page>\" for the other pages or \"list all\" for every task.\n");
+        }
+        Metrics.recordRender(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Returns the number of pages needed to show every task.
+     *
+     * @param taskCount The number of tasks in the list.
+     * @param pageSize The number of tasks on a page.
+     * @return The number of pages, at least 1 so that an empty list still has a page.
+     */
+    public static int getPageCount(int taskCount, int pageSize) {
+        return Math.max(1, (int) (((long) taskCount + pageSize - 1) / pageSize));
     }
 
     /**
@@ -86,4 +221,103 @@ public class ResponseMessage {
     public static String getSortListMessage(List<Task> taskList) {
         return "I have arranged it neat and nice, here you go: \n" + getTaskListMessage(taskList);
     }
+
+    /**
+     * Generates a success message for a batch, written after the response of every line.
+     *
+     * @param commandCount The number of commands run.
+     * @return A formatted string of the number of commands run.
+     */
+    public static String getBatchSuccessMessage(int commandCount) {
+        return "All " + commandCount + " commands are done and saved in one go!";
+    }
+
+    /**
+     * Generates a message for a command that only runs for a local user, e.g. a batch
+     * script, when a client over the network asks for it.
+     *
+     * @return A message saying that the command is refused.
+     */
+    public static String getLocalOnlyMessage() {
+        return "Sorry, I only run that command on this machine, not over the network.";
+    }
+
+    /**
+     * Generates a failure message for a batch that was rolled back, written after the
+     * error message of the failing line.
+     *
+     * @return A formatted string noting that nothing was changed.
+     */
+    public static String getBatchFailureMessage() {
+        return "\nOh no, the batch failed so I have undone all of it, nothing was changed.";
+    }
+
+    /**
+     * Generates a message with the counts of tasks by type and status.
+     *
+     * @param summary The counts of the tasks in the task list.
+     * @return A formatted string of the counts, one line per group of counts.
+     */
+    public static String getSummaryMessage(TaskSummary summary) {
+        return "Here is how your tasks are looking: \n"
+                + "Tasks: " + summary.getTaskCount() + " (to-do: " + summary.todoCount()
+                + ", deadline: " + summary.deadlineCount() + ", event: " + summary.eventCount() + ")\n"
+                + "Done: " + summary.doneCount() + ", not done: " + summary.getPendingCount() + "\n"
+                + "Overdue: " + summary.overdueCount() + ", due today: " + summary.dueTodayCount();
+    }
+
+    /**
+     * Generates a reminder for a deadline or event that is near.
+     *
+     * @param task The task that is near.
+     * @return A formatted string reminding of the task.
+     */
+    public static String getReminderMessage(Task task) {
+        return "Psst, just a friendly reminder that this is coming up soon: \n" + task;
+    }
+
+    /**
+     * Lists the first tasks changed by a bulk command, one per line, and counts the rest,
+     * so that the response stays short however many tasks are changed.
+     *
+     * @param tasks The tasks that were changed, not empty.
+     * @return The summary, without a trailing line break.
+     */
+    private static String getBulkTaskSummary(List<Task> tasks) {
+        StringBuilder sb = new StringBuilder();
+        int listedCount = Math.min(tasks.size(), BULK_LISTING_LIMIT);
+        for (Task task : tasks.subList(0, listedCount)) {
+            sb.append(task).append(" (#").append(task.getId()).append(")\n");
+        }
+
+        if (tasks.size() > listedCount) {
+            sb.append("...and ").append(tasks.size() - listedCount).append(" more\n");
+        }
+        sb.setLength(sb.length() - 1);
+        return sb.toString();
+    }
+
+    /**
+     * Generates a message with the latency of every command type seen so far, by phase,
+     * followed by the bytes written to the task file and the current task count.
+     *
+     * @return A formatted string of the metrics, one line per command type.
+     */
+    public static String getStatsMessage() {
+        StringBuilder sb = new StringBuilder("Here is how hard I have been working (mean / p99 in microseconds):\n");
+
+        Metrics.getHistograms().forEach((commandType, histograms) -> {
+            sb.append(commandType).append(": ")
+                    .append(histograms.get(Metrics.Phase.EXECUTE).getCount()).append(" runs");
+            histograms.forEach((phase, histogram) -> sb.append(", ")
+                    .append(phase.name().toLowerCase()).append(' ')
+                    .append(histogram.getMeanNanos() / NANOS_PER_MICRO).append(" / ")
+                    .append(histogram.getPercentileNanos(99) / NANOS_PER_MICRO));
+            sb.append("\n");
+        });
+
+        sb.append("Bytes written: ").append(Metrics.getBytesWritten()).append("\n");
+        sb.append("Tasks in the list: ").append(Metrics.getTaskListSize());
+        return sb.toString();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package bot.util;
+
+import bot.command.Command;
+
+/**
+ * A line of user input split into a command keyword, an argument and named options,
+ * e.g. "event project meeting /from 02-05-2025 1300 /to 02-05-2025 1500".
+ * <p>
+ * Tokenizing only records offsets into the input, in a single pass, and a part is
+ * only copied out when a command asks for it. The option names come from the command
+ * registration and are shared by every line of that command, so a line holds little
+ * more than the input and the offsets. A line parsed by {@link Parser} also holds the
+ * command that runs it, so it is everything needed to execute the line.
+ * <p>
+ * An option is its name between two spaces, e.g. " /by ", and runs until the next
+ * option or the end of the line. Options are looked for in the order they are
+ * registered, so the name of a later option before an earlier one is plain text.
+ */
+public final class CommandLine {
+    private static final char SEPARATOR = ' ';
+
+    private static final String[] NO_OPTION_NAMES = new String[0];
+
+    private static final int[] NO_OFFSETS = new int[0];
+
+    /** The command registered for the keyword, or null if the line was tokenized on its own */
+    private final Command command;
+
+    private final String input;
+
+    private final int keywordEnd;
+
+    /** Start of the argument, or -1 if the keyword is not followed by a space */
+    private final int argumentStart;
+
+    private final String[] optionNames;
+
+    /** Start of the separator before each option found, in registration order */
+    private final int[] optionStarts;
+
+    private int optionCount = 0;
+
+    private boolean hasRepeatedOption = false;
+
+    /**
+     * Tokenizes a line whose keyword ends at the given offset, looking for the options of its command.
+     */
+    CommandLine(Command command, String input, int keywordEnd, String[] optionNames) {
+        this.command = command;
+        this.input = input;
+        this.keywordEnd = keywordEnd;
+        this.argumentStart = keywordEnd < input.length() ? keywordEnd + 1 : -1;
+        this.optionNames = optionNames;
+        this.optionStarts = optionNames.length == 0 ? NO_OFFSETS : new int[optionNames.length];
+
+        if (argumentStart >= 0 && optionNames.length > 0) {
+            findOptions();
+        }
+    }
+
+    /**
+     * Tokenizes a line of user input.
+     *
+     * @param input The line, e.g. "deadline return book /by 02-05-2025 1300".
+     * @param optionNames The names of the options of the command, in order, e.g. "/by".
+     * @return The tokenized line.
+     */
+    public static CommandLine of(String input, String... optionNames) {
+        return new CommandLine(null, input, findKeywordEnd(input), optionNames);
+    }
+
+    /**
+     * Tokenizes a line of user input without options for the given command.
+     */
+    static CommandLine of(Command command, String input) {
+        return new CommandLine(command, input, findKeywordEnd(input), NO_OPTION_NAMES);
+    }
+
+    /**
+     * Returns the end of the command keyword, which is the first word of the line.
+     */
+    static int findKeywordEnd(String input) {
+        int keywordEnd = input.indexOf(SEPARATOR);
+        return keywordEnd < 0 ? input.length() : keywordEnd;
+    }
+
+    /**
+     * Returns the command that runs this line.
+     *
+     * @return The command registered for the keyword, or null if the line was not parsed by {@link Parser}.
+     */
+    public Command getCommand() {
+        return command;
+    }
+
+    public String getKeyword() {
+        return input.substring(0, keywordEnd);
+    }
+
+    /**
+     * Returns whether the keyword is followed by an argument, which may be empty.
+     *
+     * @return true if the keyword is followed by a space, false otherwise
+     */
+    public boolean hasArgument() {
+        return argumentStart >= 0;
+    }
+
+    /**
+     * Returns everything after the keyword, including the options.
+     *
+     * @return The argument, or null if there is none.
+     */
+    public String getArgument() {
+        return hasArgument() ? input.substring(argumentStart) : null;
+    }
+
+    /**
+     * Returns the argument before the first option, e.g. the task name.
+     *
+     * @return The argument before the options, or null if there is no argument.
+     */
+    public String getArgumentBeforeOptions() {
+        if (!hasArgument()) {
+            return null;
+        }
+        return input.substring(argumentStart, optionCount > 0 ? optionStarts[0] : input.length());
+    }
+
+    /**
+     * Returns whether the line has an argument and every option exactly once, with a
+     * value for the last one.
+     *
+     * @return true if the line is complete, false otherwise
+     */
+    public boolean hasAllOptions() {
+        if (!hasArgument() || hasRepeatedOption || optionCount < optionNames.length) {
+            return false;
+        }
+        return optionNames.length == 0 || getOptionValueStart(optionCount - 1) < input.length();
+    }
+
+    /**
+     * Returns the value of an option.
+     *
+     * @param optionName The name of the option, e.g. "/by".
+     * @return The value of the option, or null if the line does not have the option.
+     */
+    public String getOption(String optionName) {
+        for (int i = 0; i < optionCount; i++) {
+            if (optionNames[i].equals(optionName)) {
+                int end = i + 1 < optionCount ? optionStarts[i + 1] : input.length();
+                return input.substring(getOptionValueStart(i), end);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return input;
+    }
+
+    private int getOptionValueStart(int optionIndex) {
+        return optionStarts[optionIndex] + optionNames[optionIndex].length() + 2;
+    }
+
+    /**
+     * Records where each option starts, scanning the argument once. A match consumes
+     * its separators, as {@link String#split(String)} would.
+     */
+    private void findOptions() {
+        int length = input.length();
+        for (int i = argumentStart; i < length - 1; i++) {
+            if (input.charAt(i) != SEPARATOR || input.charAt(i + 1) != '/') {
+                continue;
+            }
+
+            int option = findOptionAt(i);
+            if (option < 0 || option > optionCount) {
+                continue; // Not an option, or one that comes after an option not found yet
+            }
+            if (option < optionCount) {
+                hasRepeatedOption = true;
+                return;
+            }
+
+            optionStarts[optionCount++] = i;
+            i += optionNames[option].length() + 1;
+        }
+    }
+
+    /**
+     * Returns the option whose name, between two spaces, starts at the given separator.
+     */
+    private int findOptionAt(int separatorIndex) {
+        for (int option = 0; option < optionNames.length; option++) {
+            String optionName = optionNames[option];
+            int end = separatorIndex + 1 + optionName.length();
+            if (end < input.length() && input.charAt(end) == SEPARATOR
+                    && input.startsWith(optionName, separatorIndex + 1)) {
+                return option;
+            }
+        }
+        return -1;
+    }
+}
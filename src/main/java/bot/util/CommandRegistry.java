@@ -0,0 +1,98 @@
+package bot.util;
+
+import bot.command.Command;
+
+/**
+ * A table from command keyword to the command that runs it, e.g. from "todo" to
+ * {@code AddTodoCommand.INSTANCE}.
+ * <p>
+ * Looking up a keyword hashes and compares it in place in the input line, so no
+ * keyword string is copied out of the line. The table uses open addressing and is
+ * replaced as a whole when a command is registered, so lookups need no lock and can
+ * run on many threads while another thread registers a command.
+ */
+public class CommandRegistry {
+    private static final int INITIAL_CAPACITY = 32;
+
+    private volatile Entry[] table = new Entry[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    /**
+     * Registers a command, replacing any command with the same keyword.
+     *
+     * @param keyword The first word of the lines that run the command, e.g. "deadline".
+     * @param command The command, shared by every line that runs it.
+     * @param optionNames The names of the options of the command, in order, e.g. "/by".
+     * @return This registry, so that registrations can be chained.
+     */
+    public synchronized CommandRegistry register(String keyword, Command command, String... optionNames) {
+        assert !keyword.isEmpty() && keyword.indexOf(' ') < 0 : "Keyword should be a single word";
+
+        Entry[] oldTable = table;
+        // Keep the load factor at most 1/2 so probe chains stay short
+        int capacity = (size + 1) * 2 > oldTable.length ? oldTable.length * 2 : oldTable.length;
+        Entry[] newTable = new Entry[capacity];
+        int newSize = 1;
+        for (Entry entry : oldTable) {
+            if (entry != null && !entry.keyword.equals(keyword)) {
+                newTable[findSlot(newTable, entry.keyword, entry.keyword.length())] = entry;
+                newSize++;
+            }
+        }
+        newTable[findSlot(newTable, keyword, keyword.length())] = new Entry(keyword, command, optionNames.clone());
+
+        size = newSize;
+        table = newTable;
+        return this;
+    }
+
+    /**
+     * Tokenizes a line of user input for the command registered for its keyword.
+     *
+     * @param input The line, e.g. "todo read book".
+     * @return The tokenized line with its command, or null if no command is registered for the keyword.
+     */
+    public CommandLine parse(String input) {
+        int keywordEnd = CommandLine.findKeywordEnd(input);
+        Entry[] currentTable = table;
+        Entry entry = currentTable[findSlot(currentTable, input, keywordEnd)];
+        if (entry == null) {
+            return null;
+        }
+        return new CommandLine(entry.command, input, keywordEnd, entry.optionNames);
+    }
+
+    /**
+     * Returns the slot holding the keyword at the start of the line, or the empty slot
+     * where it would be inserted.
+     */
+    private static int findSlot(Entry[] table, String line, int keywordEnd) {
+        int mask = table.length - 1;
+        int slot = hash(line, keywordEnd) & mask;
+        while (table[slot] != null && !table[slot].matches(line, keywordEnd)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Hashes the first characters of the line the same way as {@link String#hashCode()}.
+     */
+    private static int hash(String line, int keywordEnd) {
+        int hash = 0;
+        for (int i = 0; i < keywordEnd; i++) {
+            hash = 31 * hash + line.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A registered command, shared by every line that runs it.
+     */
+    private record Entry(String keyword, Command command, String[] optionNames) {
+        boolean matches(String line, int keywordEnd) {
+            return keyword.length() == keywordEnd && line.startsWith(keyword);
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package bot.util;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * A utility class for handling various date and time conversion tasks.
@@ -17,8 +16,8 @@ import java.util.List;
  * pre-defined patterns for file storage and user display.
  * </p>
  * <p>
- * The class uses a prioritized list of {@link DateTimeFormatter} objects
- * to handle flexible parsing of different date-time string formats.
+ * The class supports several {@link DateTimeFormatter} layouts for flexible
+ * parsing of different date-time string formats.
  * </p>
  */
 public class DateTimeUtils {
@@ -43,40 +42,52 @@ public class DateTimeUtils {
             = DateTimeFormatter.ofPattern("dd MMM yy HH:mm");
 
     /**
-     * A list of {@code DateTimeFormatter} objects used for parsing a variety of
-     * common date and time string formats.
-     * <p>
-     * The supported formats are:
-     * <ul>
-     *   <li>{@code fileFormatter}: "dd-MM-yyyy HHmm" (e.g., '02-05-2025 1300')</li>
-     *   <li>{@code displayFormatter}: "dd MMM yy HH:mm" (e.g., '02 May 25 13:00')</li>
-     *   <li>"dd-MM-yyyy" (e.g., '02-05-2025')</li>
-     *   <li>"dd/MM/yyyy" (e.g., '02/05/2025')</li>
-     *   <li>"dd/MM/yyyy HH:mm" (e.g., '02/05/2025 13:00')</li>
-     * </ul>
-     * </p>
-     */
-    private static final List<DateTimeFormatter> DATE_FORMATTERS = Arrays.asList(
-            FILE_FORMATTER,
-            DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm"),
-            // Add formatters that append a default time to handle date-only inputs
-            new DateTimeFormatterBuilder().appendPattern("dd-MM-yyyy")
+     * Define a formatter matching the "dd/MM/yyyy HHmm" pattern, e.g. '02/05/2025 1300'.
+     **/
+    private static final DateTimeFormatter SLASH_DATE_TIME_FORMATTER
+            = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
+
+    /**
+     * Define a formatter matching the "dd-MM-yyyy" pattern, e.g. '02-05-2025'.
+     * The time defaults to the start of the day.
+     **/
+    private static final DateTimeFormatter DASH_DATE_FORMATTER
+            = new DateTimeFormatterBuilder().appendPattern("dd-MM-yyyy")
                     .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
                     .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
-                    .toFormatter(),
-            new DateTimeFormatterBuilder().appendPattern("dd/MM/yyyy")
+                    .toFormatter();
+
+    /**
+     * Define a formatter matching the "dd/MM/yyyy" pattern, e.g. '02/05/2025'.
+     * The time defaults to the start of the day.
+     **/
+    private static final DateTimeFormatter SLASH_DATE_FORMATTER
+            = new DateTimeFormatterBuilder().appendPattern("dd/MM/yyyy")
                     .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
                     .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
-                    .toFormatter(),
-            DISPLAY_FORMATTER
-    );
+                    .toFormatter();
+
+    /** Length of a date in the "dd-MM-yyyy" or "dd/MM/yyyy" layout */
+    private static final int DATE_LENGTH = 10;
+
+    /** Length of a date time in the "dd-MM-yyyy HHmm" or "dd/MM/yyyy HHmm" layout */
+    private static final int DATE_TIME_LENGTH = 15;
 
     /**
-     * Parses a date-time string using a list of supported formatters.
+     * Parses a date-time string in one of the supported formats.
      * <p>
-     * The method iterates through the predefined list of {@code formatters} and
-     * attempts to parse the input string. The first formatter that successfully
-     * parses the string is used.
+     * The supported formats are:
+     * <ul>
+     *   <li>"dd-MM-yyyy HHmm" (e.g., '02-05-2025 1300')</li>
+     *   <li>"dd/MM/yyyy HHmm" (e.g., '02/05/2025 1300')</li>
+     *   <li>"dd-MM-yyyy" (e.g., '02-05-2025')</li>
+     *   <li>"dd/MM/yyyy" (e.g., '02/05/2025')</li>
+     *   <li>"dd MMM yy HH:mm" (e.g., '02 May 25 13:00')</li>
+     * </ul>
+     * The formats can be told apart by their shape alone: the separator after the
+     * two-digit day and whether there is a time part. The input is matched against
+     * that single format instead of trying every format in turn. Common inputs with
+     * in-range fields are read by a digit scanner without going through a formatter.
      * </p>
      *
      * @param dateStr The date-time string to parse.
@@ -86,12 +97,17 @@ public class DateTimeUtils {
      */
     public static LocalDateTime fromString(String dateStr)
             throws IllegalArgumentException {
-        for (DateTimeFormatter formatter : DATE_FORMATTERS) {
+        LocalDateTime dateTime = scanNumericDateTime(dateStr);
+        if (dateTime != null) {
+            return dateTime;
+        }
+
+        DateTimeFormatter formatter = findFormatter(dateStr);
+        if (formatter != null) {
             try {
-                // Attempt to parse with the current formatter
                 return LocalDateTime.parse(dateStr, formatter);
             } catch (DateTimeParseException e) {
-                // Ignore the exception and try the next formatter
+                // Fall through to the unsupported format error
             }
         }
 
@@ -109,6 +125,96 @@ public class DateTimeUtils {
                         dd/mm/yyyy HHmm""");
     }
 
+    /**
+     * Picks the only formatter that can parse a string of the given shape.
+     *
+     * @param dateStr The date-time string to parse.
+     * @return The formatter for the shape of the string, or null if no formatter can parse it.
+     */
+    private static DateTimeFormatter findFormatter(String dateStr) {
+        // Every format starts with a two-digit day followed by a separator
+        if (dateStr.length() < 3) {
+            return null;
+        }
+
+        boolean hasTime = dateStr.indexOf(' ') >= 0;
+        return switch (dateStr.charAt(2)) {
+        case '-' -> hasTime ? FILE_FORMATTER : DASH_DATE_FORMATTER;
+        case '/' -> hasTime ? SLASH_DATE_TIME_FORMATTER : SLASH_DATE_FORMATTER;
+        case ' ' -> DISPLAY_FORMATTER;
+        default -> null;
+        };
+    }
+
+    /**
+     * Reads a "dd-MM-yyyy HHmm", "dd/MM/yyyy HHmm", "dd-MM-yyyy" or "dd/MM/yyyy" string
+     * in a single pass over its digits.
+     * <p>
+     * Only strings with a four-digit year and fields that are valid as they are take
+     * this path. Anything else, such as a day past the end of the month that the
+     * formatter would adjust, returns null so that the formatter decides.
+     * </p>
+     *
+     * @param dateStr The date-time string to parse.
+     * @return The parsed {@code LocalDateTime}, or null if the string is not a plain numeric date.
+     */
+    private static LocalDateTime scanNumericDateTime(String dateStr) {
+        int length = dateStr.length();
+        if (length != DATE_LENGTH && length != DATE_TIME_LENGTH) {
+            return null;
+        }
+
+        char separator = dateStr.charAt(2);
+        boolean isValidSeparator = (separator == '-' || separator == '/') && dateStr.charAt(5) == separator;
+        if (!isValidSeparator) {
+            return null;
+        }
+
+        int day = readTwoDigits(dateStr, 0);
+        int month = readTwoDigits(dateStr, 3);
+        int century = readTwoDigits(dateStr, 6);
+        int yearOfCentury = readTwoDigits(dateStr, 8);
+        int hour = 0;
+        int minute = 0;
+        if (length == DATE_TIME_LENGTH) {
+            if (dateStr.charAt(10) != ' ') {
+                return null;
+            }
+            hour = readTwoDigits(dateStr, 11);
+            minute = readTwoDigits(dateStr, 13);
+        }
+
+        boolean isValidRange = day >= 1 && month >= 1 && month <= 12
+                && century >= 0 && yearOfCentury >= 0 && century + yearOfCentury > 0
+                && hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59;
+        if (!isValidRange) {
+            return null;
+        }
+
+        int year = century * 100 + yearOfCentury;
+        if (day > YearMonth.of(year, month).lengthOfMonth()) {
+            return null;
+        }
+
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * Reads two ASCII digits as a number.
+     *
+     * @param str The string to read from.
+     * @param index The index of the first digit.
+     * @return The two-digit number, or -1 if either character is not an ASCII digit.
+     */
+    private static int readTwoDigits(String str, int index) {
+        int tens = str.charAt(index) - '0';
+        int ones = str.charAt(index + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
     /**
      * Converts a {@code LocalDateTime} object into a user-friendly string format.
      * <p>
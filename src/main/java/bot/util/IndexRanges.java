@@ -0,0 +1,77 @@
+package bot.util;
+
+import java.util.BitSet;
+
+/**
+ * A utility class for converting sets of task positions to and from range strings.
+ * <p>
+ * A range string is a comma-separated list of positions and inclusive ranges of
+ * positions, e.g. {@code "1,4,9-20"}. Positions start from 1, and the formatted
+ * string always lists them in ascending order with consecutive positions merged.
+ * </p>
+ */
+public class IndexRanges {
+    private static final String ITEM_SEPARATOR = ",";
+
+    private static final String RANGE_SEPARATOR = "-";
+
+    /**
+     * Formats a set of positions as a range string.
+     *
+     * @param indexes The positions, starting from 1.
+     * @return The range string, e.g. "1,4,9-20", or an empty string if there is no position.
+     */
+    public static String format(BitSet indexes) {
+        StringBuilder sb = new StringBuilder();
+        for (int start = indexes.nextSetBit(0); start >= 0; start = indexes.nextSetBit(start)) {
+            int end = indexes.nextClearBit(start) - 1;
+            if (!sb.isEmpty()) {
+                sb.append(ITEM_SEPARATOR);
+            }
+            sb.append(start);
+            if (end > start) {
+                sb.append(RANGE_SEPARATOR).append(end);
+            }
+            start = end + 1;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parses a range string into a set of positions.
+     *
+     * @param ranges The range string, e.g. "1,4,9-20".
+     * @param maxIndex The largest valid position, e.g. the size of the task list.
+     * @return The positions listed by the range string.
+     * @throws IllegalArgumentException If an item is not an ascending range of valid positions.
+     */
+    public static BitSet parse(String ranges, int maxIndex) throws IllegalArgumentException {
+        BitSet indexes = new BitSet();
+        for (String item : ranges.split(ITEM_SEPARATOR)) {
+            addRange(item.trim(), maxIndex, indexes);
+        }
+        return indexes;
+    }
+
+    /**
+     * Adds a single position or inclusive range of positions to a set of positions.
+     * The range is checked before any position is added, so a huge range never
+     * allocates a huge set.
+     *
+     * @param item The position or range, e.g. "4" or "9-20".
+     * @param maxIndex The largest valid position, e.g. the size of the task list.
+     * @param indexes The positions to add to.
+     * @throws IllegalArgumentException If the item is not an ascending range of valid positions.
+     */
+    public static void addRange(String item, int maxIndex, BitSet indexes) throws IllegalArgumentException {
+        int separatorIndex = item.indexOf(RANGE_SEPARATOR);
+        int start = Integer.parseInt(separatorIndex < 0 ? item : item.substring(0, separatorIndex).trim());
+        int end = separatorIndex < 0 ? start : Integer.parseInt(item.substring(separatorIndex + 1).trim());
+
+        boolean isValidRange = start >= 1 && start <= end && end <= maxIndex;
+        if (!isValidRange) {
+            throw new IllegalArgumentException("Invalid task range: " + item);
+        }
+        indexes.set(start, end + 1);
+    }
+}
@@ -3,6 +3,7 @@ package bot.util;
 import bot.command.AddDeadlineCommand;
 import bot.command.AddEventCommand;
 import bot.command.AddTodoCommand;
+import bot.command.BatchCommand;
 import bot.command.Command;
 import bot.command.ExitCommand;
 import bot.command.FindCommand;
@@ -11,65 +12,70 @@ import bot.command.ListTaskCommand;
 import bot.command.MarkTaskCommand;
 import bot.command.RemoveTaskCommand;
 import bot.command.SortCommand;
+import bot.command.StatsCommand;
+import bot.command.SummaryCommand;
 import bot.command.UnmarkTaskCommand;
 
 /**
  * A utility class for parsing user input strings into executable commands.
- * This class analyzes the first word of the input to determine the command type
- * and creates the appropriate Command object with the remaining input parameters.
+ * The first word of the input selects the command from a registry of commands, and the
+ * input is tokenized for that command. More commands can be plugged in with
+ * {@link #register(String, Command, String...)}.
  */
 public class Parser {
     /**
-     * Parses a user input string and returns the corresponding Command object.
-     * The input is split into the command keyword and its parameters, then the
-     * appropriate Command subclass is instantiated based on the keyword.
-     * <p>
      * Supported commands:
      * - "bye": Exit the application
-     * - "list": Display all tasks
+     * - "list": Display a page of tasks
      * - "mark": Mark a task as completed
      * - "unmark": Mark a task as not completed
      * - "todo": Add a new to-do task
      * - "deadline": Add a new deadline task
      * - "event": Add a new event task
      * - "delete": Remove a task
+     * - "find": Search for tasks by name
      * - "sort": Sort task list
-     * - Any other input: Invalid command
+     * - "stats": Display command metrics
+     * - "summary": Display task counts by type and status
+     * - "batch": Run the commands in a script file as one transaction
+     */
+    private static final CommandRegistry REGISTRY = new CommandRegistry()
+            .register("bye", ExitCommand.INSTANCE)
+            .register("list", ListTaskCommand.INSTANCE)
+            .register("mark", MarkTaskCommand.INSTANCE)
+            .register("unmark", UnmarkTaskCommand.INSTANCE)
+            .register("todo", AddTodoCommand.INSTANCE)
+            .register("deadline", AddDeadlineCommand.INSTANCE, AddDeadlineCommand.BY_OPTION)
+            .register("event", AddEventCommand.INSTANCE, AddEventCommand.FROM_OPTION, AddEventCommand.TO_OPTION)
+            .register("delete", RemoveTaskCommand.INSTANCE)
+            .register("find", FindCommand.INSTANCE)
+            .register("sort", SortCommand.INSTANCE)
+            .register("stats", StatsCommand.INSTANCE)
+            .register("summary", SummaryCommand.INSTANCE)
+            .register("batch", BatchCommand.INSTANCE);
+
+    /**
+     * Parses a user input string into a line that holds the command to run it.
+     * The input is tokenized in a single pass for the command registered for its first
+     * word. Any input without a registered command runs the invalid command.
      *
      * @param input the user input string to parse
-     * @return the Command object corresponding to the parsed input
+     * @return the tokenized input, whose command is never null
      */
-    public static Command parse(String input) {
-        // Split input by space into command type (first word)
-        // and other command information (e.g. input param)
-        String commandSeparator = " ";
-        String[] commandInfo = input.split(commandSeparator, 2);
-
-        String instruction = commandInfo[0];
+    public static CommandLine parse(String input) {
+        CommandLine commandLine = REGISTRY.parse(input);
+        return commandLine != null ? commandLine : CommandLine.of(InvalidCommand.INSTANCE, input);
+    }
 
-        // Redirect command type to invoke respective operations
-        return switch (instruction) {
-            case "bye" -> // Exit program
-                    new ExitCommand();
-            case "list" -> // Display task list
-                    new ListTaskCommand();
-            case "mark" -> // Mark a task as done
-                    new MarkTaskCommand(commandInfo);
-            case "unmark" -> // Mark a task as not done
-                    new UnmarkTaskCommand(commandInfo);
-            case "todo" -> // Add to-do task to task list
-                    new AddTodoCommand(commandInfo);
-            case "deadline" -> // Add deadline task to task list
-                    new AddDeadlineCommand(commandInfo);
-            case "event" -> // Add event task to task list
-                    new AddEventCommand(commandInfo);
-            case "delete" -> // Delete task from task list
-                    new RemoveTaskCommand(commandInfo);
-            case "find" -> // Search for tasks by name
-                    new FindCommand(commandInfo);
-            case "sort" -> // Sort task list by name or date
-                    new SortCommand(commandInfo);
-            default -> new InvalidCommand();
-        };
+    /**
+     * Registers a command for every later call to {@link #parse(String)}, replacing any
+     * command with the same keyword.
+     *
+     * @param keyword The first word of the lines that run the command, e.g. "deadline".
+     * @param command The command, shared by every line that runs it.
+     * @param optionNames The names of the options of the command, in order, e.g. "/by".
+     */
+    public static void register(String keyword, Command command, String... optionNames) {
+        REGISTRY.register(keyword, command, optionNames);
     }
 }
@@ -0,0 +1,163 @@
+package bot;
+
+import bot.service.JournalFileService;
+import bot.ui.ResponseMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ServerTest {
+    /** Commands sent per load run, split evenly between the clients */
+    private static final int COMMANDS_PER_RUN = 4096;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Sends a command and reads its response frame.
+     */
+    private static List<String> send(BufferedReader in, Writer out, String command) throws IOException {
+        out.write(command + "\n");
+        out.flush();
+        return readResponse(in);
+    }
+
+    private static List<String> readResponse(BufferedReader in) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while (!(line = in.readLine()).equals(Server.END_OF_RESPONSE)) {
+            lines.add(line.startsWith("..") ? line.substring(1) : line);
+        }
+        return lines;
+    }
+
+    /**
+     * Connects the given number of clients, each adding its share of to-do tasks and
+     * finding them again, and returns the commands per second over all clients.
+     */
+    private static double runLoad(int port, int clientCount) throws Exception {
+        int commandsPerClient = COMMANDS_PER_RUN / clientCount;
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        try {
+            long startTime = System.nanoTime();
+            List<Future<?>> results = new ArrayList<>();
+            for (int c = 0; c < clientCount; c++) {
+                String clientName = clientCount + "-" + c;
+                results.add(clients.submit(() -> {
+                    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+                            BufferedReader in = new BufferedReader(
+                                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+                        readResponse(in); // greeting
+
+                        for (int i = 0; i < commandsPerClient; i += 2) {
+                            String taskName = "client " + clientName + " task " + i;
+                            assertTrue(send(in, out, "todo " + taskName).get(0).contains(taskName));
+                            assertTrue(send(in, out, "find " + taskName).get(1).contains(taskName));
+                        }
+                        out.write("bye\n");
+                        out.flush();
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+            return COMMANDS_PER_RUN * 1e9 / (System.nanoTime() - startTime);
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    @Test
+    public void generateResponse_concurrentClients_noLostUpdates() throws Exception {
+        Path file = tempDir.resolve("taskData.txt");
+        Server server = new Server(new Bot("Lovely", new JournalFileService(file.toString())), 0);
+        server.start();
+
+        int expectedTaskCount = 0;
+        try {
+            for (int clientCount : new int[] {1, 16, 256}) {
+                double commandsPerSecond = runLoad(server.getPort(), clientCount);
+                expectedTaskCount += COMMANDS_PER_RUN / 2;
+                System.out.printf("%d clients: %.0f commands/sec%n", clientCount, commandsPerSecond);
+            }
+        } finally {
+            server.stop();
+        }
+
+        assertEquals(expectedTaskCount, new JournalFileService(file.toString()).readFromFile().size());
+    }
+
+    @Test
+    public void generateResponse_exitCommand_onlyConnectionClosed() throws Exception {
+        Path file = tempDir.resolve("taskData.txt");
+        Server server = new Server(new Bot("Lovely", new JournalFileService(file.toString())), 0);
+        server.start();
+
+        try {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+                readResponse(in); // greeting
+                out.write("bye now\n");
+                out.flush();
+                assertNull(in.readLine());
+            }
+
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+                readResponse(in); // greeting
+                assertTrue(send(in, out, "todo read book").get(0).contains("read book"));
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void generateResponse_batchScript_refused() throws Exception {
+        Path file = tempDir.resolve("taskData.txt");
+        Path secret = tempDir.resolve("secret.txt");
+        Files.writeString(secret, "top secret\n");
+        Server server = new Server(new Bot("Lovely", new JournalFileService(file.toString())), 0);
+        server.start();
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            readResponse(in); // greeting
+
+            List<String> response = send(in, out, "batch " + secret);
+            assertEquals(List.of(ResponseMessage.getLocalOnlyMessage()), response);
+            assertTrue(send(in, out, "todo read book").get(0).contains("read book"));
+        } finally {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package bot.command;
+
+import bot.service.FileService;
+import bot.task.TaskList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchCommandTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * A file service that counts how many times the task list is written.
+     */
+    private static class CountingFileService extends FileService {
+        private int writeCount = 0;
+
+        CountingFileService(Path path) {
+            super(path.toString());
+        }
+
+        @Override
+        public void writeToFile(TaskList taskList) throws IOException {
+            writeCount++;
+            super.writeToFile(taskList);
+        }
+    }
+
+    @Test
+    public void execute_validLines_savedOnce() throws IOException {
+        CountingFileService fileService = new CountingFileService(tempDir.resolve("taskData.txt"));
+        TaskList taskList = new TaskList();
+
+        Command.Result result = BatchCommand.INSTANCE.executeLines(List.of("todo buy food", "",
+                "deadline homework /by 23-09-2025 2359", "mark 1", "delete 2"), taskList, fileService,
+                new StringBuilder());
+
+        assertEquals(Command.Result.SUCCESS, result);
+        assertEquals(1, fileService.writeCount);
+        assertEquals(1, taskList.getSize());
+        assertEquals(taskList.getTaskList().toString(), fileService.readFromFile().toString());
+    }
+
+    @Test
+    public void execute_failingLine_rolledBack() throws IOException {
+        CountingFileService fileService = new CountingFileService(tempDir.resolve("taskData.txt"));
+        TaskList taskList = new TaskList();
+        taskList.addTask("buy food");
+        taskList.addTask("homework");
+        String tasksBefore = taskList.getTaskList().toString();
+
+        StringBuilder out = new StringBuilder();
+        Command.Result result = BatchCommand.INSTANCE.executeLines(List.of("mark 1", "delete 2", "todo read book",
+                "sort name", "mark 9"), taskList, fileService, out);
+
+        assertEquals(Command.Result.FAILED, result);
+        assertTrue(out.toString().startsWith("Line 1: "));
+        assertTrue(out.toString().contains("\nLine 5: Invalid Command: "));
+        assertEquals(0, fileService.writeCount);
+        assertEquals(tasksBefore, taskList.getTaskList().toString());
+        assertEquals(List.of(taskList.getTaskList().get(0)), taskList.searchTasksByName("food"));
+    }
+}
@@ -0,0 +1,118 @@
+package bot.command;
+
+import bot.task.TaskList;
+import bot.util.CommandLine;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ListTaskCommandTest {
+    private static TaskList createTaskList(int taskCount) {
+        TaskList taskList = new TaskList();
+        for (int i = 1; i <= taskCount; i++) {
+            taskList.addTask("task " + i);
+        }
+        return taskList;
+    }
+
+    @Test
+    public void execute_pageAndPageSize_onlyThatPage() throws IOException {
+        StringBuilder out = new StringBuilder();
+        ListTaskCommand.INSTANCE.execute(CommandLine.of("list 3 --page-size 50"), createTaskList(120), null, out);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(21, lines.length);
+        assertEquals("101. [T][ ] task 101 (#101)", lines[0]);
+        assertEquals("Page 3 of 3, showing tasks 101 to 120 of 120.", lines[20]);
+    }
+
+    @Test
+    public void execute_noPageOnLongList_firstPageWithHint() throws IOException {
+        StringBuilder out = new StringBuilder();
+        ListTaskCommand.INSTANCE.execute(CommandLine.of("list"), createTaskList(250), null, out);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(ListTaskCommand.DEFAULT_PAGE_SIZE + 2, lines.length);
+        assertEquals("Page 1 of 3, showing tasks 1 to 100 of 250.", lines[100]);
+        assertEquals("Use \"list <page>\" for the other pages or \"list all\" for every task.", lines[101]);
+    }
+
+    @Test
+    public void execute_smallList_noPageFooter() throws IOException {
+        StringBuilder out = new StringBuilder();
+        ListTaskCommand.INSTANCE.execute(CommandLine.of("list"), createTaskList(2), null, out);
+
+        assertEquals("1. [T][ ] task 1 (#1)\n2. [T][ ] task 2 (#2)\n", out.toString());
+    }
+
+    @Test
+    public void execute_pageOutOfBound_failure() throws IOException {
+        StringBuilder out = new StringBuilder();
+        Command.Result result = ListTaskCommand.INSTANCE.execute(CommandLine.of("list 4 --page-size 50"),
+                createTaskList(120), null, out);
+
+        assertEquals(Command.Result.FAILED, result);
+        assertEquals("Invalid Command: Invalid page number", out.toString());
+    }
+
+    @Test
+    public void execute_outputFails_exceptionThrown() {
+        Appendable out = new Appendable() {
+            @Override
+            public Appendable append(CharSequence chars) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public Appendable append(CharSequence chars, int start, int end) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public Appendable append(char c) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        try {
+            ListTaskCommand.INSTANCE.execute(CommandLine.of("list"), createTaskList(2), null, out);
+            fail(); // the test should not reach this line
+        } catch (IOException e) {
+            assertEquals("Broken pipe", e.getMessage());
+        }
+    }
+
+    @Test
+    public void execute_listAllWithOutput_streamedLineByLine() throws IOException {
+        int taskCount = 100000;
+        int[] counts = new int[2]; // characters and lines written
+        Writer out = new Writer() {
+            @Override
+            public void write(char[] chars, int offset, int length) {
+                counts[0] += length;
+                for (int i = offset; i < offset + length; i++) {
+                    counts[1] += chars[i] == '\n' ? 1 : 0;
+                }
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        };
+
+        Command.Result result = ListTaskCommand.INSTANCE.execute(CommandLine.of("list all"),
+                createTaskList(taskCount), null, out);
+
+        // Nothing is built in memory, every task went straight to the output
+        assertEquals(Command.Result.SUCCESS, result);
+        assertEquals(taskCount, counts[1]);
+        assertTrue(counts[0] > taskCount * 20);
+    }
+}
@@ -0,0 +1,63 @@
+package bot.command;
+
+import bot.service.JournalFileService;
+import bot.task.Task;
+import bot.task.TaskList;
+import bot.util.CommandLine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RemoveTaskCommandTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void execute_deleteDone_oneJournalRecord() throws IOException {
+        Path file = tempDir.resolve("taskData.txt");
+        JournalFileService fileService = new JournalFileService(file.toString());
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 10000; i++) {
+            taskList.addTask("task " + i);
+        }
+        fileService.writeToFile(taskList);
+
+        Command.Result markResult = MarkTaskCommand.INSTANCE.execute(CommandLine.of("mark 1-5000, 7000, #9001"),
+                taskList, fileService, new StringBuilder());
+        assertEquals(Command.Result.SUCCESS, markResult);
+
+        StringBuilder out = new StringBuilder();
+        Command.Result removeResult = RemoveTaskCommand.INSTANCE.execute(CommandLine.of("delete done"),
+                taskList, fileService, out);
+        assertEquals(Command.Result.SUCCESS, removeResult);
+
+        assertEquals(10000 - 5002, taskList.getSize());
+        assertTrue(out.toString().contains("...and 4992 more"));
+        assertEquals(2, Files.readAllLines(tempDir.resolve("taskData.txt.journal")).size());
+
+        List<Task> savedTasks = new JournalFileService(file.toString()).readFromFile();
+        assertEquals(taskList.getTaskList().toString(), savedTasks.toString());
+    }
+
+    @Test
+    public void execute_rangeOutOfBound_unchanged() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.addTask("buy food");
+        taskList.addTask("homework");
+
+        StringBuilder out = new StringBuilder();
+        Command.Result result = RemoveTaskCommand.INSTANCE.execute(CommandLine.of("delete 1-3"), taskList,
+                new JournalFileService(tempDir.resolve("taskData.txt").toString()), out);
+
+        assertEquals(Command.Result.FAILED, result);
+        assertEquals("Invalid Command: Invalid task number", out.toString());
+        assertEquals(2, taskList.getSize());
+    }
+}
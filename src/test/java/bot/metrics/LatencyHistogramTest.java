@@ -0,0 +1,73 @@
+package bot.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+    @Test
+    public void getPercentileNanos_nothingRecorded_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_bucketBounds_upperBoundOfBucket() {
+        for (int i = 1; i < 62; i++) {
+            long lowerBound = 1L << (i - 1);
+            long upperBound = (1L << i) - 1;
+            for (long value : new long[] {lowerBound, upperBound}) {
+                // A far larger second value keeps the maximum from capping the bound
+                LatencyHistogram histogram = new LatencyHistogram();
+                histogram.record(value);
+                histogram.record(Long.MAX_VALUE);
+                assertEquals(upperBound, histogram.getPercentileNanos(50));
+            }
+
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(upperBound + 1);
+            histogram.record(Long.MAX_VALUE);
+            assertEquals(2 * upperBound + 1, histogram.getPercentileNanos(50));
+        }
+    }
+
+    @Test
+    public void getPercentileNanos_boundPastMaximum_maximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        histogram.record(5000);
+
+        assertEquals(1023, histogram.getPercentileNanos(50));
+        assertEquals(5000, histogram.getPercentileNanos(100));
+        assertEquals(5000, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_uniformLatencies_withinFactorOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        for (double percentile : new double[] {1, 50, 90, 99, 99.9}) {
+            long exactNanos = (long) Math.ceil(100_000 * percentile / 100);
+            long reportedNanos = histogram.getPercentileNanos(percentile);
+            assertTrue(reportedNanos >= exactNanos && reportedNanos < 2 * exactNanos,
+                    "p" + percentile + " reported " + reportedNanos + " for " + exactNanos);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(50_000, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void record_negativeLatency_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getTotalNanos());
+        assertEquals(0, histogram.getPercentileNanos(100));
+    }
+}
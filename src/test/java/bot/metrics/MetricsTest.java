@@ -0,0 +1,70 @@
+package bot.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MetricsTest {
+    // Metrics are process-wide, so every test records under a command type of its own
+
+    @BeforeEach
+    public void drainNestedTime() {
+        // Other tests may have written files on this thread outside of any command
+        Metrics.recordExecution("MetricsTest", 0);
+    }
+
+    @Test
+    public void recordExecution_nestedPersistAndRender_splitOffExecution() {
+        long bytesWritten = Metrics.getBytesWritten();
+        Metrics.recordPersist(300, 10);
+        Metrics.recordRender(200);
+        Metrics.recordExecution("SplitCommand", 1000);
+
+        Map<Metrics.Phase, LatencyHistogram> histograms = Metrics.getHistograms().get("SplitCommand");
+        assertEquals(500, histograms.get(Metrics.Phase.EXECUTE).getTotalNanos());
+        assertEquals(300, histograms.get(Metrics.Phase.PERSIST).getTotalNanos());
+        assertEquals(200, histograms.get(Metrics.Phase.RENDER).getTotalNanos());
+        assertEquals(0, histograms.get(Metrics.Phase.PARSE).getCount());
+        assertEquals(bytesWritten + 10, Metrics.getBytesWritten());
+
+        // The nested time is taken off once, the next execution starts from zero
+        Metrics.recordExecution("SplitCommand", 400);
+        assertEquals(900, histograms.get(Metrics.Phase.EXECUTE).getTotalNanos());
+        assertEquals(300, histograms.get(Metrics.Phase.PERSIST).getTotalNanos());
+        assertEquals(2, histograms.get(Metrics.Phase.PERSIST).getCount());
+    }
+
+    @Test
+    public void recordExecution_persistOnOtherThread_notSplitOff() throws InterruptedException {
+        Thread otherThread = new Thread(() -> Metrics.recordPersist(700, 0));
+        otherThread.start();
+        otherThread.join();
+        Metrics.recordExecution("ThreadCommand", 1000);
+
+        Map<Metrics.Phase, LatencyHistogram> histograms = Metrics.getHistograms().get("ThreadCommand");
+        assertEquals(1000, histograms.get(Metrics.Phase.EXECUTE).getTotalNanos());
+        assertEquals(0, histograms.get(Metrics.Phase.PERSIST).getTotalNanos());
+    }
+
+    @Test
+    public void record_singlePhase_otherPhasesEmpty() {
+        Metrics.record("ParseCommand", Metrics.Phase.PARSE, 250);
+
+        Map<Metrics.Phase, LatencyHistogram> histograms = Metrics.getHistograms().get("ParseCommand");
+        assertEquals(1, histograms.get(Metrics.Phase.PARSE).getCount());
+        assertEquals(250, histograms.get(Metrics.Phase.PARSE).getTotalNanos());
+        assertEquals(0, histograms.get(Metrics.Phase.EXECUTE).getCount());
+    }
+
+    @Test
+    public void getCommandCounts_executeOnlyCommand_countedLikeStats() {
+        Metrics.recordExecution("ExecuteOnlyCommand", 100);
+        Metrics.recordExecution("ExecuteOnlyCommand", 200);
+
+        // Batches and background writes are never parsed, yet they ran
+        assertEquals(Long.valueOf(2), new MetricsMXBeanImpl().getCommandCounts().get("ExecuteOnlyCommand"));
+    }
+}
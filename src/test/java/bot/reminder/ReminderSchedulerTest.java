@@ -0,0 +1,154 @@
+package bot.reminder;
+
+import bot.exception.InvalidCommandException;
+import bot.task.Deadline;
+import bot.task.Task;
+import bot.task.TaskList;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class ReminderSchedulerTest {
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    /**
+     * A clock that only moves when the test moves it.
+     */
+    private static class SimulatedClock extends Clock {
+        private LocalDateTime now = START_TIME;
+
+        void set(LocalDateTime now) {
+            this.now = now;
+        }
+
+        LocalDateTime now() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now.toInstant(ZoneOffset.UTC);
+        }
+    }
+
+    @Test
+    public void advance_taskListChanges_remindersFollowChanges() throws InvalidCommandException {
+        SimulatedClock clock = new SimulatedClock();
+        ReminderScheduler scheduler = new ReminderScheduler(Duration.ofMinutes(30), clock);
+        List<String> reminded = new ArrayList<>();
+        scheduler.addListener(task -> reminded.add(task.getName()));
+
+        TaskList taskList = new TaskList();
+        taskList.addTask("homework", "01-01-2030 0930");
+        taskList.addListener(scheduler);
+        taskList.addTask("project meeting", "01-01-2030 1000", "01-01-2030 1100");
+        taskList.addTask("return book", "01-01-2030 0945");
+        taskList.addTask("pay bills", "01-01-2030 1100");
+        taskList.addTask("read book");
+        taskList.addTask("overdue essay", "01-01-2030 0700");
+        taskList.removeTask(3); // return book
+        taskList.markTaskAsDone(3); // pay bills
+        assertEquals(2, scheduler.getPendingCount());
+
+        clock.set(START_TIME.withMinute(59));
+        assertEquals(0, scheduler.advance());
+        clock.set(START_TIME.withHour(9));
+        assertEquals(1, scheduler.advance()); // homework, 30 minutes before its deadline
+        clock.set(START_TIME.withHour(9).withMinute(30));
+        assertEquals(1, scheduler.advance()); // project meeting, 30 minutes before it starts
+
+        taskList.markTaskAsNotDone(3); // pay bills is reminded of again
+        clock.set(START_TIME.withHour(12));
+        assertEquals(1, scheduler.advance());
+        assertEquals(List.of("homework", "project meeting", "pay bills"), reminded);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void advance_millionsOfReminders_firedOnceInOrder() {
+        SimulatedClock clock = new SimulatedClock();
+        Duration leadTime = Duration.ofHours(1);
+        ReminderScheduler scheduler = new ReminderScheduler(leadTime, clock);
+
+        // Due times spread over 30 days, shared so that the tasks stay small
+        int minutesInRange = 30 * 24 * 60;
+        LocalDateTime[] dueTimes = new LocalDateTime[minutesInRange];
+        for (int i = 0; i < minutesInRange; i++) {
+            dueTimes[i] = START_TIME.plusMinutes(61 + i);
+        }
+
+        int taskCount = 1_000_000;
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Deadline("task", dueTimes[(int) (i * 7919L % minutesInRange)], false);
+            tasks.add(task);
+            scheduler.schedule(task);
+        }
+        for (int i = 0; i < taskCount; i += 10) {
+            scheduler.cancel(tasks.get(i));
+        }
+        assertEquals(taskCount - taskCount / 10, scheduler.getPendingCount());
+
+        // However many reminders are pending, the wheel itself is a fixed number of slots
+        assertEquals(384, TimingWheel.LEVEL_COUNT * TimingWheel.SLOTS_PER_LEVEL);
+
+        List<LocalDateTime> firedTimes = new ArrayList<>();
+        boolean[] isOutOfOrder = {false};
+        scheduler.addListener(task -> {
+            LocalDateTime reminderTime = ReminderScheduler.getDueTime(task).minus(leadTime);
+            boolean isInOrder = !reminderTime.isAfter(clock.now())
+                    && (firedTimes.isEmpty() || !reminderTime.isBefore(firedTimes.get(firedTimes.size() - 1)));
+            isOutOfOrder[0] |= !isInOrder;
+            firedTimes.add(reminderTime);
+        });
+
+        for (LocalDateTime now = START_TIME; !now.isAfter(START_TIME.plusDays(31)); now = now.plusMinutes(7)) {
+            clock.set(now);
+            scheduler.advance();
+        }
+
+        assertFalse(isOutOfOrder[0]);
+        assertEquals(taskCount - taskCount / 10, firedTimes.size());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void advance_remindersBeyondWheel_firedAfterOverflow() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        long wheelSpan = 1L << (TimingWheel.LEVEL_COUNT * TimingWheel.SLOT_BITS);
+        wheel.schedule("far", wheelSpan + 5);
+        wheel.schedule("near", 70);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 4000);
+        wheel.cancel(cancelled);
+        wheel.cancel(cancelled);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(69, expired::add);
+        assertEquals(List.of(), expired);
+        wheel.advanceTo(wheelSpan + 4, expired::add);
+        assertEquals(List.of("near"), expired);
+        wheel.advanceTo(wheelSpan + 5, expired::add);
+        assertEquals(List.of("near", "far"), expired);
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,133 @@
+package bot.service;
+
+import bot.exception.InvalidCommandException;
+import bot.task.Task;
+import bot.task.TaskList;
+import bot.util.IndexRanges;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class JournalFileServiceTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Applies every kind of mutation to the task list and journals each of them.
+     */
+    private static void applyMutations(TaskList taskList, JournalFileService fileService)
+            throws IOException, InvalidCommandException {
+        for (int i = 0; i < 20; i++) {
+            fileService.saveAddedTask(taskList, taskList.addTask("task " + (char) ('t' - i)));
+        }
+        fileService.saveAddedTask(taskList, taskList.addTask("return book", "02-01-2030 1800"));
+        fileService.saveAddedTask(taskList, taskList.addTask("meeting", "01-01-2030 1000", "01-01-2030 1100"));
+
+        taskList.markTaskAsDone(2);
+        fileService.saveMarkedTask(taskList, 2);
+        taskList.markTasksAsDone(IndexRanges.parse("4-9,12", taskList.getSize()));
+        fileService.saveMarkedTasks(taskList, IndexRanges.parse("4-9,12", taskList.getSize()));
+        taskList.markTaskAsNotDone(5);
+        fileService.saveUnmarkedTask(taskList, 5);
+        taskList.markTasksAsNotDone(IndexRanges.parse("7-8", taskList.getSize()));
+        fileService.saveUnmarkedTasks(taskList, IndexRanges.parse("7-8", taskList.getSize()));
+        taskList.removeTask(1);
+        fileService.saveRemovedTask(taskList, 1);
+        taskList.removeTasks(IndexRanges.parse("3,10-14", taskList.getSize()));
+        fileService.saveRemovedTasks(taskList, IndexRanges.parse("3,10-14", taskList.getSize()));
+        taskList.sortTaskByName();
+        fileService.saveSortedList(taskList, "name");
+        taskList.sortTaskByDate();
+        fileService.saveSortedList(taskList, "date");
+    }
+
+    @Test
+    public void readFromFile_journaledMutations_replayedListMatches() throws Exception {
+        Path file = tempDir.resolve("taskData.txt");
+        JournalFileService fileService = new JournalFileService(file.toString());
+        TaskList taskList = new TaskList();
+        applyMutations(taskList, fileService);
+
+        assertFalse(Files.exists(file.resolveSibling("taskData.txt.new")));
+        List<Task> replayedTasks = new JournalFileService(file.toString()).readFromFile();
+        assertEquals(taskList.getTaskList().toString(), replayedTasks.toString());
+    }
+
+    @Test
+    public void readFromFile_journalCompacted_replayedListMatches() throws Exception {
+        Path file = tempDir.resolve("taskData.txt");
+        JournalFileService fileService = new JournalFileService(file.toString(), 256);
+        TaskList taskList = new TaskList();
+        applyMutations(taskList, fileService);
+        fileService.awaitCompaction();
+
+        List<Task> replayedTasks = new JournalFileService(file.toString()).readFromFile();
+        assertEquals(taskList.getTaskList().toString(), replayedTasks.toString());
+    }
+
+    @Test
+    public void readFromFile_tornLastRecord_recordDropped() throws Exception {
+        Path file = tempDir.resolve("taskData.txt");
+        Path journal = tempDir.resolve("taskData.txt.journal");
+        JournalFileService fileService = new JournalFileService(file.toString());
+        TaskList taskList = new TaskList();
+        applyMutations(taskList, fileService);
+
+        // Crash while appending, in the middle of a multi-byte character
+        byte[] tornRecord = "add | T | 0 | café".getBytes(StandardCharsets.UTF_8);
+        Files.write(journal, Arrays.copyOf(tornRecord, tornRecord.length - 1), StandardOpenOption.APPEND);
+
+        JournalFileService reopenedService = new JournalFileService(file.toString());
+        TaskList reopenedList = new TaskList(reopenedService.readFromFile());
+        assertEquals(taskList.getTaskList().toString(), reopenedList.getTaskList().toString());
+
+        // The torn record is cut off, so the next record is not glued to it
+        reopenedService.saveAddedTask(reopenedList, reopenedList.addTask("buy food"));
+        List<Task> replayedTasks = new JournalFileService(file.toString()).readFromFile();
+        assertEquals(reopenedList.getTaskList().toString(), replayedTasks.toString());
+    }
+
+    @Test
+    public void readFromFile_crashBeforeCompactedJournalDeleted_newSnapshotDiscarded() throws Exception {
+        Path file = tempDir.resolve("taskData.txt");
+        JournalFileService fileService = new JournalFileService(file.toString());
+        TaskList taskList = new TaskList();
+        fileService.writeToFile(taskList);
+        applyMutations(taskList, fileService);
+
+        // Crash while the new snapshot is written: the journal is moved aside, the snapshot is partial
+        Files.move(tempDir.resolve("taskData.txt.journal"), tempDir.resolve("taskData.txt.journal.compacting"));
+        Files.writeString(tempDir.resolve("taskData.txt.new"), "T | 0 | task t\nT | 1 | ta");
+
+        List<Task> replayedTasks = new JournalFileService(file.toString()).readFromFile();
+        assertEquals(taskList.getTaskList().toString(), replayedTasks.toString());
+        assertFalse(Files.exists(tempDir.resolve("taskData.txt.new")));
+    }
+
+    @Test
+    public void readFromFile_crashAfterCompactedJournalDeleted_newSnapshotUsed() throws Exception {
+        Path file = tempDir.resolve("taskData.txt");
+        JournalFileService fileService = new JournalFileService(file.toString());
+        TaskList taskList = new TaskList();
+        applyMutations(taskList, fileService);
+
+        // Crash after the compacted journal is deleted, before the new snapshot replaces the old one
+        fileService.writeToFile(taskList);
+        Files.move(file, tempDir.resolve("taskData.txt.new"));
+        new FileService(file.toString()).writeToFile(new TaskList());
+
+        List<Task> replayedTasks = new JournalFileService(file.toString()).readFromFile();
+        assertEquals(taskList.getTaskList().toString(), replayedTasks.toString());
+        assertFalse(Files.exists(tempDir.resolve("taskData.txt.new")));
+    }
+}
@@ -0,0 +1,57 @@
+package bot.service;
+
+import bot.task.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class StreamingTaskLoaderTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void load_manyChunks_sameAsReadAllLines() throws IOException {
+        Path file = tempDir.resolve("taskData.txt");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append("T | ").append(i % 2).append(" | café ").append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        content.append("T | 0 | last line");
+        Files.writeString(file, content);
+
+        List<Task> tasks = new StreamingTaskLoader(64, ForkJoinPool.commonPool()).load(file);
+        assertEquals(new FileService(file.toString()).readFromFile().toString(), tasks.toString());
+        assertEquals(1001, tasks.size());
+    }
+
+    @Test
+    public void load_malformedBytes_exceptionThrown() throws IOException {
+        Path file = tempDir.resolve("taskData.txt");
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (int i = 0; i < 100; i++) {
+            content.writeBytes(("T | 0 | task " + i + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        content.writeBytes(new byte[] {'T', ' ', '|', ' ', '0', ' ', '|', ' ', (byte) 0xC3, '\n'});
+        Files.write(file, content.toByteArray());
+
+        for (int chunkSize : new int[] {64, StreamingTaskLoader.DEFAULT_CHUNK_SIZE}) {
+            try {
+                new StreamingTaskLoader(chunkSize, ForkJoinPool.commonPool()).load(file);
+                fail(); // the test should not reach this line
+            } catch (CharacterCodingException e) {
+                // A replaced byte would have been loaded as a task named "�"
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package bot.service;
+
+import bot.task.Task;
+import bot.task.TaskList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class WriteBehindFileServiceTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void flush_onExitPolicy_writesLatestListOnlyOnFlush() throws IOException {
+        Path file = tempDir.resolve("taskData.txt");
+        WriteBehindFileService fileService = new WriteBehindFileService(file.toString(),
+                WriteBehindFileService.DurabilityPolicy.ON_EXIT, 0);
+
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 100; i++) {
+            Task task = taskList.addTask("task " + i);
+            fileService.saveAddedTask(taskList, task);
+        }
+        assertFalse(Files.exists(file));
+
+        fileService.flush();
+        assertEquals(taskList.getTaskList().toString(), fileService.readFromFile().toString());
+    }
+
+    @Test
+    public void saveAddedTask_perCommandPolicy_writtenOnReturn() throws IOException {
+        Path file = tempDir.resolve("taskData.txt");
+        WriteBehindFileService fileService = new WriteBehindFileService(file.toString(),
+                WriteBehindFileService.DurabilityPolicy.PER_COMMAND, 0);
+
+        TaskList taskList = new TaskList();
+        Task task = taskList.addTask("buy food");
+        fileService.saveAddedTask(taskList, task);
+
+        assertEquals(taskList.getTaskList().toString(), new FileService(file.toString()).readFromFile().toString());
+    }
+
+    @Test
+    public void forDurability_everyOption_pickedService() {
+        String path = tempDir.resolve("taskData.txt").toString();
+
+        assertInstanceOf(JournalFileService.class, FileService.forDurability(path, "journal"));
+        assertInstanceOf(WriteBehindFileService.class, FileService.forDurability(path, "per-command"));
+        assertInstanceOf(WriteBehindFileService.class, FileService.forDurability(path, "interval"));
+        assertInstanceOf(WriteBehindFileService.class, FileService.forDurability(path, "on-exit"));
+        try {
+            FileService.forDurability(path, "never");
+            fail(); // the test should not reach this line
+        } catch (IllegalArgumentException e) {
+            assertEquals("Unknown durability: never, expected journal, per-command, interval or on-exit",
+                    e.getMessage());
+        }
+    }
+
+    @Test
+    public void writeToFile_writeKeepsFailing_retriedWithBackoff() throws Exception {
+        AtomicInteger attemptCount = new AtomicInteger();
+        AtomicBoolean isDiskFull = new AtomicBoolean(true);
+        WriteBehindFileService fileService = new WriteBehindFileService(tempDir.resolve("taskData.txt").toString(),
+                WriteBehindFileService.DurabilityPolicy.PER_COMMAND, 0) {
+            @Override
+            void writeDurably(List<Task> tasks) throws IOException {
+                attemptCount.incrementAndGet();
+                if (isDiskFull.get()) {
+                    throw new IOException("No space left on device");
+                }
+                super.writeDurably(tasks);
+            }
+        };
+
+        TaskList taskList = new TaskList();
+        taskList.addTask("buy food");
+        try {
+            fileService.writeToFile(taskList);
+            fail(); // the test should not reach this line
+        } catch (IOException e) {
+            assertEquals("No space left on device", e.getMessage());
+        }
+
+        // Retries after 100, 200 and 400 milliseconds instead of spinning
+        Thread.sleep(500);
+        int attemptsWhileFailing = attemptCount.get();
+        assertTrue(attemptsWhileFailing >= 2 && attemptsWhileFailing <= 5, "attempts: " + attemptsWhileFailing);
+
+        isDiskFull.set(false);
+        long giveUpMillis = System.currentTimeMillis() + 5000;
+        while (true) {
+            try {
+                fileService.flush();
+                break;
+            } catch (IOException e) {
+                assertTrue(System.currentTimeMillis() < giveUpMillis);
+                Thread.sleep(50);
+            }
+        }
+        assertEquals(taskList.getTaskList().toString(), fileService.readFromFile().toString());
+    }
+}
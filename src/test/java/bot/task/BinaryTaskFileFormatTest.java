@@ -0,0 +1,100 @@
+package bot.task;
+
+import bot.service.BinaryTaskFileFormat;
+import bot.service.TaskFileConverter;
+import bot.service.TaskFileFormat;
+import bot.service.TextTaskFileFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class BinaryTaskFileFormatTest {
+    @TempDir
+    Path tempDir;
+
+    private List<Task> createTasks() {
+        return List.of(
+                new Todo("buy food", true),
+                new Deadline("homework", "23-09-2025 2359", false),
+                new Event("Alibaba Earnings Call", "30-08-2025 0000", "30-08-2025 2359", true),
+                new Todo("\u4e70\u83dc | with pipes", false));
+    }
+
+    @Test
+    public void read_writtenTasks_sameTasks() throws IOException {
+        List<Task> tasks = createTasks();
+        Path file = tempDir.resolve("taskData.bin");
+
+        BinaryTaskFileFormat format = new BinaryTaskFileFormat();
+        format.write(file, tasks);
+
+        assertEquals(tasks.toString(), format.read(file).toString());
+    }
+
+    @Test
+    public void read_emptyFile_emptyList() throws IOException {
+        Path file = Files.createFile(tempDir.resolve("taskData.bin"));
+        assertEquals(0, new BinaryTaskFileFormat().read(file).size());
+    }
+
+    @Test
+    public void read_unsupportedVersion_failure() throws IOException {
+        Path file = tempDir.resolve("taskData.bin");
+        Files.write(file, new byte[] {'L', 'O', 'V', 'B', 99, 0, 0, 0, 0});
+
+        try {
+            new BinaryTaskFileFormat().read(file);
+            fail(); // the test should not reach this line
+        } catch (IllegalArgumentException e) {
+            assertEquals("Unsupported binary task file version: 99", e.getMessage());
+        }
+    }
+
+    @Test
+    public void read_truncatedFile_failure() throws IOException {
+        Path file = tempDir.resolve("taskData.bin");
+        new BinaryTaskFileFormat().write(file, createTasks());
+
+        byte[] data = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(data, data.length - 3));
+
+        try {
+            new BinaryTaskFileFormat().read(file);
+            fail(); // the test should not reach this line
+        } catch (IllegalArgumentException e) {
+            assertEquals("Binary task file is truncated: " + file, e.getMessage());
+        }
+    }
+
+    @Test
+    public void forPath_binExtension_binaryFormat() {
+        assertInstanceOf(BinaryTaskFileFormat.class, TaskFileFormat.forPath(tempDir.resolve("taskData.bin")));
+        assertInstanceOf(TextTaskFileFormat.class, TaskFileFormat.forPath(tempDir.resolve("taskData.txt")));
+    }
+
+    @Test
+    public void convert_textToBinaryToText_sameContent() throws IOException {
+        Path text = tempDir.resolve("taskData.txt");
+        Path binary = tempDir.resolve("taskData.bin");
+        Path convertedText = tempDir.resolve("converted.txt");
+
+        String content = "T | 1 | buy food\n"
+                + "D | 0 | homework | 23-09-2025 2359\n"
+                + "E | 0 | Alibaba Earnings Call | 30-08-2025 0000 | 30-08-2025 2359\n";
+        Files.writeString(text, content);
+
+        TaskFileConverter.convert(text, binary);
+        TaskFileConverter.convert(binary, convertedText);
+
+        assertEquals(content, Files.readString(convertedText));
+    }
+}
@@ -0,0 +1,74 @@
+package bot.task;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class PersistentTaskListTest {
+    @Test
+    public void appendAndWithout_randomOperations_sameAsArrayList() {
+        Random random = new Random(42);
+        PersistentTaskList tasks = PersistentTaskList.EMPTY;
+        List<Task> expected = new ArrayList<>();
+
+        List<PersistentTaskList> snapshots = new ArrayList<>();
+        List<List<Task>> expectedSnapshots = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                Task task = new Todo("task " + i);
+                tasks = tasks.append(task);
+                expected.add(task);
+            } else {
+                int index = random.nextInt(expected.size());
+                tasks = tasks.without(index);
+                expected.remove(index);
+            }
+
+            if (i % 500 == 0) {
+                snapshots.add(tasks);
+                expectedSnapshots.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, tasks);
+        assertEquals(expected, new ArrayList<>(tasks));
+        for (int i = 0; i < expected.size(); i += 97) {
+            assertEquals(expected.get(i), tasks.get(i));
+        }
+
+        // Earlier versions are unchanged by later operations
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertEquals(expectedSnapshots.get(i), snapshots.get(i));
+        }
+    }
+
+    @Test
+    public void of_list_sameOrder() {
+        List<Task> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.add(new Todo("task " + i));
+        }
+
+        PersistentTaskList tasks = PersistentTaskList.of(expected);
+        assertEquals(expected, tasks);
+        assertEquals(tasks, PersistentTaskList.of(tasks));
+    }
+
+    @Test
+    public void without_outOfBoundIndex_failure() {
+        PersistentTaskList tasks = PersistentTaskList.EMPTY.append(new Todo("buy food"));
+
+        try {
+            tasks.without(1);
+            fail(); // the test should not reach this line
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals(1, tasks.size());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package bot.task;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TaskIdMapTest {
+    @Test
+    public void putAndRemove_randomOperations_sameAsHashMap() {
+        Random random = new Random(42);
+        TaskIdMap tasksById = new TaskIdMap();
+        Map<Long, Task> expected = new HashMap<>();
+
+        for (int i = 0; i < 50000; i++) {
+            long id = 1 + random.nextInt(2000);
+            if (random.nextBoolean()) {
+                Task task = new Todo("task " + id);
+                tasksById.put(id, task);
+                expected.put(id, task);
+            } else {
+                assertEquals(expected.remove(id), tasksById.remove(id));
+            }
+        }
+
+        assertEquals(expected.size(), tasksById.size());
+        for (long id = 0; id <= 2001; id++) {
+            assertEquals(expected.get(id), tasksById.get(id));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package bot.task;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskListConcurrencyTest {
+    private static final int WRITER_COUNT = 4;
+    private static final int READER_COUNT = 4;
+    private static final int OPERATIONS_PER_WRITER = 2000;
+
+    /**
+     * Runs the writers and readers together, stops the readers once every writer is
+     * done and rethrows the first failure of any of them.
+     */
+    private static void runConcurrently(List<Callable<Void>> writers, Callable<Void> reader, AtomicBoolean isDone)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(writers.size() + READER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> readerResults = new ArrayList<>();
+            for (int i = 0; i < READER_COUNT; i++) {
+                readerResults.add(executor.submit(() -> {
+                    start.await();
+                    while (!isDone.get()) {
+                        reader.call();
+                    }
+                    return null;
+                }));
+            }
+
+            List<Future<Void>> writerResults = new ArrayList<>();
+            for (Callable<Void> writer : writers) {
+                writerResults.add(executor.submit(() -> {
+                    start.await();
+                    return writer.call();
+                }));
+            }
+
+            start.countDown();
+            for (Future<Void> result : writerResults) {
+                result.get();
+            }
+            isDone.set(true);
+            for (Future<Void> result : readerResults) {
+                result.get();
+            }
+        } finally {
+            isDone.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns whether every task appears once and no slot is empty, which a torn read
+     * of a list being sorted or shifted would break.
+     */
+    private static boolean isWholeList(List<Task> tasks) {
+        Set<Task> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Task task : tasks) {
+            if (task == null || !seen.add(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    public void addTask_concurrentWritersAndReaders_noLostUpdates() throws Exception {
+        TaskList taskList = new TaskList();
+        AtomicBoolean isDone = new AtomicBoolean();
+
+        List<Callable<Void>> writers = new ArrayList<>();
+        for (int w = 0; w < WRITER_COUNT; w++) {
+            int writer = w;
+            writers.add(() -> {
+                for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                    switch (i % 3) {
+                    case 0 -> taskList.addTask("writer " + writer + " todo " + i);
+                    case 1 -> taskList.addTask("writer " + writer + " deadline " + i, "23-09-2025 2359");
+                    default -> taskList.addTask("writer " + writer + " event " + i,
+                            "30-08-2025 0000", "30-08-2025 2359");
+                    }
+                }
+                return null;
+            });
+        }
+
+        runConcurrently(writers, () -> {
+            int sizeBefore = taskList.getSize();
+            List<Task> snapshot = taskList.getTaskList();
+            List<Task> matches = taskList.searchTasksByName("writer 1 ");
+            int sizeAfter = taskList.getSize();
+
+            // Only adds happen, so every read sees a size between the reads around it
+            assertTrue(sizeBefore <= snapshot.size() && snapshot.size() <= sizeAfter);
+            assertTrue(isWholeList(snapshot));
+            assertTrue(matches.size() <= OPERATIONS_PER_WRITER);
+            return null;
+        }, isDone);
+
+        assertEquals(WRITER_COUNT * OPERATIONS_PER_WRITER, taskList.getSize());
+        for (int w = 0; w < WRITER_COUNT; w++) {
+            assertEquals(OPERATIONS_PER_WRITER, taskList.searchTasksByName("writer " + w + " ").size());
+        }
+        assertEquals(taskList.getSize(), taskList.getTasksByDate().size());
+    }
+
+    @Test
+    public void getTaskList_concurrentRemoveMarkAndSort_consistentSnapshots() throws Exception {
+        int initialSize = WRITER_COUNT * OPERATIONS_PER_WRITER;
+        List<Task> data = new ArrayList<>();
+        for (int i = 0; i < initialSize; i++) {
+            data.add(new Todo("task " + (initialSize - i), false));
+        }
+        TaskList taskList = new TaskList(data);
+        AtomicBoolean isDone = new AtomicBoolean();
+
+        List<Callable<Void>> writers = new ArrayList<>();
+        for (int w = 0; w < WRITER_COUNT; w++) {
+            int writer = w;
+            writers.add(() -> {
+                for (int i = 0; i < OPERATIONS_PER_WRITER / 2; i++) {
+                    switch ((i + writer) % 4) {
+                    case 0 -> taskList.removeTask(1);
+                    case 1 -> taskList.markTaskAsDone(1);
+                    case 2 -> taskList.sortTaskByName();
+                    default -> taskList.sortTaskByDate();
+                    }
+                }
+                return null;
+            });
+        }
+
+        runConcurrently(writers, () -> {
+            int sizeBefore = taskList.getSize();
+            List<Task> snapshot = taskList.getTaskList();
+            List<Task> matches = taskList.searchTasksByName("task");
+            List<Task> tasksByDate = taskList.getTasksByDate();
+            int sizeAfter = taskList.getSize();
+
+            // Only removals change the size, and a sort in progress is never visible
+            assertTrue(sizeBefore >= snapshot.size() && snapshot.size() >= sizeAfter);
+            assertTrue(isWholeList(snapshot));
+
+            // Optimistic reads that overlap a change are read again, so they are never torn
+            assertTrue(sizeBefore >= matches.size() && matches.size() >= sizeAfter);
+            assertTrue(isWholeList(matches));
+            assertTrue(sizeBefore >= tasksByDate.size() && tasksByDate.size() >= sizeAfter);
+            assertTrue(isWholeList(tasksByDate));
+            return null;
+        }, isDone);
+
+        int removeCount = 0;
+        for (int w = 0; w < WRITER_COUNT; w++) {
+            for (int i = 0; i < OPERATIONS_PER_WRITER / 2; i++) {
+                removeCount += (i + w) % 4 == 0 ? 1 : 0;
+            }
+        }
+        assertEquals(initialSize - removeCount, taskList.getSize());
+        assertEquals(taskList.getSize(), taskList.searchTasksByName("task").size());
+    }
+}
@@ -3,10 +3,15 @@ package bot.task;
 import bot.exception.InvalidCommandException;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class TaskListTest {
     @Test
@@ -42,4 +47,198 @@ public class TaskListTest {
             assertEquals("Invalid Command: Invalid task number", e.getMessage());
         }
     }
+
+    @Test
+    public void searchTasksByName_afterAddRemoveSort_sameAsLinearScan() throws InvalidCommandException {
+        List<Task> data = new ArrayList<>();
+        data.add(new Todo("Buy food", true));
+        data.add(new Deadline("homework", "23-09-2025 2359", false));
+        TaskList taskList = new TaskList(data);
+
+        taskList.addTask("read BOOK");
+        taskList.addTask("return book", "24-09-2025 1200");
+        taskList.addTask("book club", "30-08-2025 0000", "30-08-2025 2359");
+        taskList.addTask("buy bookmarks");
+        taskList.removeTask(3);
+        taskList.sortTaskByName();
+
+        for (String keyword : new String[] {"", "b", "bo", "BOOK", "ook c", "home", "xyz"}) {
+            List<Task> expected = new ArrayList<>();
+            for (Task task : taskList.getTaskList()) {
+                if (task.isNameMatch(keyword)) {
+                    expected.add(task);
+                }
+            }
+            assertEquals(expected, taskList.searchTasksByName(keyword));
+        }
+    }
+
+    @Test
+    public void searchTasksByName_turkishDefaultLocale_caseStillIgnored() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            TaskList taskList = new TaskList();
+            taskList.addTask("PAY INVOICE");
+            taskList.addTask("file taxes");
+
+            // In Turkish, "I" lowercases to a dotless "ı"
+            assertEquals(1, taskList.searchTasksByName("invoice").size());
+            assertEquals(1, taskList.searchTasksByName("FILE").size());
+            assertEquals(2, taskList.searchTasksByName("I").size());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void sortTaskByDate_afterAddRemoveSortByName_sameAsStableSort() throws InvalidCommandException {
+        TaskList taskList = new TaskList();
+        taskList.addTask("buy food");
+        taskList.addTask("homework", "23-09-2025 2359");
+        taskList.addTask("earnings call", "30-08-2025 0000", "23-09-2025 2359");
+        taskList.addTask("assignment", "01-09-2025 1200");
+        taskList.addTask("laundry");
+        taskList.addTask("project", "01-09-2025");
+        taskList.removeTask(4);
+        taskList.sortTaskByName();
+        taskList.addTask("another homework", "23-09-2025 2359");
+
+        List<Task> expected = new ArrayList<>(taskList.getTaskList());
+        expected.sort(Task::compareDateTo);
+
+        assertEquals(expected, taskList.getTasksByDate());
+        taskList.sortTaskByDate();
+        assertEquals(expected, taskList.getTaskList());
+    }
+
+    @Test
+    public void getIndexById_afterRemoveAndSort_currentPosition() throws InvalidCommandException {
+        TaskList taskList = new TaskList();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(taskList.addTask("task " + (i * 37 % 100)));
+        }
+        for (int i = 0; i < 30; i++) {
+            taskList.removeTask(1 + i * 7 % taskList.getSize());
+        }
+        taskList.sortTaskByName();
+
+        for (Task task : tasks) {
+            int position = taskList.getTaskList().indexOf(task);
+            if (position < 0) {
+                try {
+                    taskList.getIndexById(task.getId());
+                    fail(); // the test should not reach this line
+                } catch (InvalidCommandException e) {
+                    assertEquals("Invalid Command: Invalid task ID", e.getMessage());
+                }
+            } else {
+                assertEquals(position + 1, taskList.getIndexById(task.getId()));
+            }
+        }
+    }
+
+    @Test
+    public void removeTasks_rangesAndList_remainingInOrder() throws InvalidCommandException {
+        TaskList taskList = new TaskList();
+        for (int i = 1; i <= 20; i++) {
+            taskList.addTask("task " + i);
+        }
+        BitSet indexes = new BitSet();
+        indexes.set(1);
+        indexes.set(4);
+        indexes.set(9, 21);
+
+        List<Task> removedTasks = taskList.removeTasks(indexes);
+
+        assertEquals(14, removedTasks.size());
+        assertEquals("task 1", removedTasks.get(0).getName());
+        assertEquals(6, taskList.getSize());
+        assertEquals("task 8", taskList.getTaskList().get(5).getName());
+        assertEquals(6, taskList.getIndexById(taskList.getTaskList().get(5).getId()));
+        assertEquals(0, taskList.searchTasksByName("task 20").size());
+        assertEquals(6, taskList.getTasksByDate().size());
+    }
+
+    @Test
+    public void markTasksAsDone_outOfBoundIndex_unchanged() {
+        TaskList taskList = new TaskList();
+        taskList.addTask("buy food");
+        taskList.addTask("homework");
+        BitSet indexes = new BitSet();
+        indexes.set(1, 4);
+
+        try {
+            taskList.markTasksAsDone(indexes);
+            fail(); // the test should not reach this line
+        } catch (InvalidCommandException e) {
+            assertEquals("Invalid Command: Invalid task number", e.getMessage());
+            assertFalse(taskList.getTaskList().get(0).isDone());
+        }
+    }
+
+    @Test
+    public void getSummary_afterAddRemoveMarkRestore_sameAsLinearCount() throws InvalidCommandException {
+        LocalDate today = LocalDate.of(2025, 9, 23);
+        List<Task> data = new ArrayList<>();
+        data.add(new Todo("buy food", true));
+        data.add(new Deadline("homework", "23-09-2025 2359", false));
+        TaskList taskList = new TaskList(data);
+
+        taskList.addTask("read book");
+        taskList.addTask("return book", "20-09-2025 1200");
+        taskList.addTask("book club", "22-09-2025 1800", "23-09-2025 0900");
+        taskList.addTask("pay bills", "01-09-2025 1200");
+        taskList.markTaskAsDone(4);
+        taskList.markTaskAsDone(4); // marking twice should count once
+        taskList.removeTask(3);
+        BitSet indexes = new BitSet();
+        indexes.set(1, 3);
+        taskList.markTasksAsNotDone(indexes);
+        assertEquals(getLinearSummary(taskList.getTaskList(), today), taskList.getSummary(today));
+
+        List<Task> snapshot = taskList.getTaskList();
+        taskList.removeTask(1);
+        taskList.restore(snapshot);
+        assertEquals(getLinearSummary(taskList.getTaskList(), today), taskList.getSummary(today));
+    }
+
+    @Test
+    public void getSummary_dayChanges_overdueMovesWithDay() throws InvalidCommandException {
+        TaskList taskList = new TaskList();
+        taskList.addTask("homework", "23-09-2025 2359");
+        taskList.addTask("book club", "22-09-2025 1800", "24-09-2025 0900");
+        taskList.addTask("return book", "20-09-2025 1200");
+
+        TaskSummary summary = taskList.getSummary(LocalDate.of(2025, 9, 23));
+        assertEquals(new TaskSummary(0, 2, 1, 0, 1, 1), summary);
+        assertEquals(3, summary.getPendingCount());
+
+        assertEquals(2, taskList.getSummary(LocalDate.of(2025, 9, 24)).overdueCount());
+        assertEquals(3, taskList.getSummary(LocalDate.of(2025, 10, 1)).overdueCount());
+        assertEquals(0, taskList.getSummary(LocalDate.of(2025, 9, 1)).overdueCount());
+
+        taskList.addTask("pay bills", "01-08-2025 1200");
+        taskList.markTaskAsDone(1);
+        assertEquals(new TaskSummary(0, 3, 1, 1, 2, 1), taskList.getSummary(LocalDate.of(2025, 9, 24)));
+    }
+
+    /**
+     * Counts the tasks in one pass, as the summary was answered before the counters.
+     */
+    private static TaskSummary getLinearSummary(List<Task> tasks, LocalDate today) {
+        int[] counts = new int[6];
+        for (Task task : tasks) {
+            counts[task instanceof Todo ? 0 : task instanceof Deadline ? 1 : 2]++;
+            if (task.isDone()) {
+                counts[3]++;
+            } else if (task.getSortDate() != null) {
+                LocalDate dueDay = task.getSortDate().toLocalDate();
+                counts[4] += dueDay.isBefore(today) ? 1 : 0;
+                counts[5] += dueDay.equals(today) ? 1 : 0;
+            }
+        }
+        return new TaskSummary(counts[0], counts[1], counts[2], counts[3], counts[4], counts[5]);
+    }
 }
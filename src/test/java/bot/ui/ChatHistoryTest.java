@@ -0,0 +1,44 @@
+package bot.ui;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChatHistoryTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void add_pastCapacity_oldestDropped() throws IOException {
+        ChatHistory chatHistory = new ChatHistory(100);
+        for (int i = 0; i < 1000; i++) {
+            chatHistory.add(new ChatMessage("message " + i, i % 2 == 1));
+        }
+
+        List<ChatMessage> messages = chatHistory.getMessages();
+        assertTrue(messages.size() >= 100 && messages.size() <= 125);
+        assertEquals("message 999", messages.get(messages.size() - 1).text());
+    }
+
+    @Test
+    public void add_withSpillPath_droppedMessagesSaved() throws IOException {
+        Path spillPath = tempDir.resolve("data").resolve("chatHistory.txt");
+        ChatHistory chatHistory = new ChatHistory(4);
+        chatHistory.setSpillPath(spillPath);
+        for (int i = 0; i < 3; i++) {
+            chatHistory.add(new ChatMessage("todo task " + i, false), new ChatMessage("added task " + i, true));
+        }
+
+        assertEquals(4, chatHistory.getMessages().size());
+        assertEquals(List.of("[You]", "todo task 0", "[Lovely]", "added task 0"), Files.readAllLines(spillPath));
+        assertFalse(chatHistory.getMessages().contains(new ChatMessage("todo task 0", false)));
+    }
+}
@@ -0,0 +1,111 @@
+package bot.ui;
+
+import bot.Bot;
+import bot.service.FileService;
+import bot.task.TaskList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandRunnerTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * A file service whose first write waits until it is released.
+     */
+    private static class BlockingFileService extends FileService {
+        private final CountDownLatch isWriting = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingFileService(Path path) {
+            super(path.toString());
+        }
+
+        @Override
+        public void writeToFile(TaskList taskList) throws IOException {
+            isWriting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            super.writeToFile(taskList);
+        }
+    }
+
+    @Test
+    public void submit_manyCommands_responsesInOrder() throws Exception {
+        Bot bot = new Bot("Lovely", tempDir.resolve("taskData.txt").toString());
+        ExecutorService uiThread = Executors.newSingleThreadExecutor();
+        CommandRunner commandRunner = new CommandRunner(bot, uiThread, () -> { });
+        List<String> responses = new ArrayList<>();
+        CountDownLatch isDone = new CountDownLatch(100);
+
+        uiThread.submit(() -> {
+            for (int i = 0; i < 100; i++) {
+                commandRunner.submit("todo task " + i, response -> {
+                    responses.add(response);
+                    isDone.countDown();
+                });
+            }
+        }).get();
+
+        assertTrue(isDone.await(10, TimeUnit.SECONDS));
+        uiThread.submit(() -> {
+            for (int i = 0; i < 100; i++) {
+                assertTrue(responses.get(i).contains("task " + i + " (#" + (i + 1) + ")"));
+            }
+            assertFalse(commandRunner.hasPendingCommands());
+        }).get();
+        uiThread.shutdown();
+    }
+
+    @Test
+    public void cancelAll_runningChangeAndQueuedCommands_onlyQueuedCancelled() throws Exception {
+        BlockingFileService fileService = new BlockingFileService(tempDir.resolve("taskData.txt"));
+        Bot bot = new Bot("Lovely", fileService);
+        ExecutorService uiThread = Executors.newSingleThreadExecutor();
+        CommandRunner commandRunner = new CommandRunner(bot, uiThread, () -> { });
+        String[] responses = new String[3];
+        CountDownLatch isDone = new CountDownLatch(3);
+
+        uiThread.submit(() -> commandRunner.submit("todo buy food", response -> {
+            responses[0] = response;
+            isDone.countDown();
+        })).get();
+        assertTrue(fileService.isWriting.await(10, TimeUnit.SECONDS));
+
+        uiThread.submit(() -> {
+            commandRunner.submit("todo homework", response -> {
+                responses[1] = response;
+                isDone.countDown();
+            });
+            commandRunner.submit("list", response -> {
+                responses[2] = response;
+                isDone.countDown();
+            });
+            commandRunner.cancelAll();
+        }).get();
+        fileService.release.countDown();
+
+        assertTrue(isDone.await(10, TimeUnit.SECONDS));
+        assertTrue(responses[0].contains("buy food"));
+        assertEquals(CommandRunner.CANCELLED_MESSAGE, responses[1]);
+        assertEquals(CommandRunner.CANCELLED_MESSAGE, responses[2]);
+        assertFalse(bot.generateResponse("list").contains("homework"));
+        uiThread.shutdown();
+    }
+}
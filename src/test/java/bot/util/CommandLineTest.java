@@ -0,0 +1,52 @@
+package bot.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandLineTest {
+    @Test
+    public void of_event_keywordArgumentAndOptions() {
+        CommandLine commandLine = CommandLine.of("event project meeting /from 02-05-2025 1300 /to 02-05-2025 1500",
+                "/from", "/to");
+
+        assertTrue(commandLine.hasAllOptions());
+        assertEquals("event", commandLine.getKeyword());
+        assertEquals("project meeting", commandLine.getArgumentBeforeOptions());
+        assertEquals("02-05-2025 1300", commandLine.getOption("/from"));
+        assertEquals("02-05-2025 1500", commandLine.getOption("/to"));
+    }
+
+    @Test
+    public void of_laterOptionFirst_partOfText() {
+        CommandLine commandLine = CommandLine.of("event read a /to b /from 1300 /to 1500", "/from", "/to");
+
+        assertTrue(commandLine.hasAllOptions());
+        assertEquals("read a /to b", commandLine.getArgumentBeforeOptions());
+        assertEquals("1300", commandLine.getOption("/from"));
+        assertEquals("1500", commandLine.getOption("/to"));
+    }
+
+    @Test
+    public void hasAllOptions_repeatedOrMissingOption_false() {
+        assertFalse(CommandLine.of("deadline a /by 1300 /by 1400", "/by").hasAllOptions());
+        assertFalse(CommandLine.of("deadline a /by ", "/by").hasAllOptions());
+        assertFalse(CommandLine.of("deadline a/by 1300", "/by").hasAllOptions());
+        assertFalse(CommandLine.of("deadline /by 1300", "/by").hasAllOptions());
+        assertFalse(CommandLine.of("event a /from 1300", "/from", "/to").hasAllOptions());
+        assertNull(CommandLine.of("event a /from 1300", "/from", "/to").getOption("/to"));
+    }
+
+    @Test
+    public void getArgument_noArgument_null() {
+        CommandLine commandLine = CommandLine.of("list");
+
+        assertFalse(commandLine.hasArgument());
+        assertNull(commandLine.getArgument());
+        assertEquals("list", commandLine.getKeyword());
+        assertEquals("3 --page-size 50", CommandLine.of("list 3 --page-size 50").getArgument());
+    }
+}
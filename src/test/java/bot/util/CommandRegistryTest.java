@@ -0,0 +1,38 @@
+package bot.util;
+
+import bot.command.AddTodoCommand;
+import bot.command.ExitCommand;
+import bot.command.FindCommand;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CommandRegistryTest {
+    @Test
+    public void create_manyKeywords_registeredCommand() {
+        CommandRegistry registry = new CommandRegistry();
+        for (int i = 0; i < 100; i++) {
+            registry.register("todo" + i, AddTodoCommand.INSTANCE);
+        }
+        registry.register("find", FindCommand.INSTANCE).register("bye", ExitCommand.INSTANCE);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(AddTodoCommand.INSTANCE, registry.parse("todo" + i + " read book").getCommand());
+        }
+        assertEquals(FindCommand.INSTANCE, registry.parse("find book").getCommand());
+        assertEquals(ExitCommand.INSTANCE, registry.parse("bye").getCommand());
+        assertNull(registry.parse("todo100 read book"));
+        assertNull(registry.parse("fin book"));
+    }
+
+    @Test
+    public void register_sameKeyword_replaced() {
+        CommandRegistry registry = new CommandRegistry().register("find", FindCommand.INSTANCE);
+        registry.register("find", ExitCommand.INSTANCE);
+
+        CommandLine commandLine = registry.parse("find book");
+        assertEquals(ExitCommand.INSTANCE, commandLine.getCommand());
+        assertEquals("book", commandLine.getArgument());
+    }
+}
@@ -0,0 +1,128 @@
+package bot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DateTimeUtilsTest {
+    /** Formatters tried in turn by the previous implementation of {@code fromString} */
+    private static final List<DateTimeFormatter> REFERENCE_FORMATTERS = List.of(
+            DateTimeFormatter.ofPattern("dd-MM-yyyy HHmm"),
+            DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm"),
+            new DateTimeFormatterBuilder().appendPattern("dd-MM-yyyy")
+                    .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+                    .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+                    .toFormatter(),
+            new DateTimeFormatterBuilder().appendPattern("dd/MM/yyyy")
+                    .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+                    .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+                    .toFormatter(),
+            DateTimeFormatter.ofPattern("dd MMM yy HH:mm"));
+
+    private static final String[] MONTH_NAMES = {"Jan", "May", "Dec", "may", "Foo"};
+
+    private static final String FUZZ_ALPHABET = "0123456789-/: Ma+";
+
+    /**
+     * Parses the string the way {@code fromString} did before the fast path, trying every formatter.
+     *
+     * @return The parsed date time, or null if no formatter accepts the string.
+     */
+    private static LocalDateTime parseWithReference(String dateStr) {
+        for (DateTimeFormatter formatter : REFERENCE_FORMATTERS) {
+            try {
+                return LocalDateTime.parse(dateStr, formatter);
+            } catch (DateTimeParseException e) {
+                // Try the next formatter
+            }
+        }
+        return null;
+    }
+
+    private static LocalDateTime parseWithFastPath(String dateStr) {
+        try {
+            return DateTimeUtils.fromString(dateStr);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String twoDigits(Random random, int bound) {
+        return String.format("%02d", random.nextInt(bound));
+    }
+
+    /**
+     * Generates a string in one of the supported layouts, with fields that may be out of range.
+     */
+    private static String generateDateString(Random random) {
+        String day = twoDigits(random, 40);
+        String month = twoDigits(random, 20);
+        String year = random.nextInt(10) == 0 ? "0000" : String.valueOf(1900 + random.nextInt(300));
+        String time = twoDigits(random, 30) + twoDigits(random, 70);
+
+        return switch (random.nextInt(5)) {
+        case 0 -> day + "-" + month + "-" + year + " " + time;
+        case 1 -> day + "/" + month + "/" + year + " " + time;
+        case 2 -> day + "-" + month + "-" + year;
+        case 3 -> day + "/" + month + "/" + year;
+        default -> day + " " + MONTH_NAMES[random.nextInt(MONTH_NAMES.length)] + " "
+                + twoDigits(random, 100) + " " + twoDigits(random, 30) + ":" + twoDigits(random, 70);
+        };
+    }
+
+    /**
+     * Replaces, inserts or deletes a random character.
+     */
+    private static String mutate(String str, Random random) {
+        StringBuilder sb = new StringBuilder(str);
+        int index = random.nextInt(sb.length() + 1);
+        char c = FUZZ_ALPHABET.charAt(random.nextInt(FUZZ_ALPHABET.length()));
+
+        switch (random.nextInt(3)) {
+        case 0 -> sb.insert(index, c);
+        case 1 -> {
+            if (index < sb.length()) {
+                sb.deleteCharAt(index);
+            }
+        }
+        default -> {
+            if (index < sb.length()) {
+                sb.setCharAt(index, c);
+            }
+        }
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void fromString_supportedFormats_success() {
+        LocalDateTime expected = LocalDateTime.of(2025, 5, 2, 13, 0);
+        assertEquals(expected, DateTimeUtils.fromString("02-05-2025 1300"));
+        assertEquals(expected, DateTimeUtils.fromString("02/05/2025 1300"));
+        assertEquals(expected.withHour(0), DateTimeUtils.fromString("02-05-2025"));
+        assertEquals(expected.withHour(0), DateTimeUtils.fromString("02/05/2025"));
+        assertEquals(expected, DateTimeUtils.fromString("02 May 25 13:00"));
+    }
+
+    @Test
+    public void fromString_fuzzedInput_sameAsReference() {
+        Random random = new Random(2025);
+        for (int i = 0; i < 50000; i++) {
+            String input = generateDateString(random);
+            int mutationCount = random.nextInt(3);
+            for (int j = 0; j < mutationCount; j++) {
+                input = mutate(input, random);
+            }
+
+            assertEquals(parseWithReference(input), parseWithFastPath(input), "Input: '" + input + "'");
+        }
+    }
+}
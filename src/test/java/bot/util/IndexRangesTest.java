@@ -0,0 +1,27 @@
+package bot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class IndexRangesTest {
+    @Test
+    public void format_parsedRanges_mergedAndSorted() {
+        BitSet indexes = IndexRanges.parse("9-20, 4,1,21", 100);
+        assertEquals("1,4,9-21", IndexRanges.format(indexes));
+        assertEquals(indexes, IndexRanges.parse(IndexRanges.format(indexes), 100));
+    }
+
+    @Test
+    public void parse_rangePastMaxIndex_failure() {
+        try {
+            IndexRanges.parse("1-2000000000", 100);
+            fail(); // the test should not reach this line
+        } catch (IllegalArgumentException e) {
+            assertEquals("Invalid task range: 1-2000000000", e.getMessage());
+        }
+    }
+}